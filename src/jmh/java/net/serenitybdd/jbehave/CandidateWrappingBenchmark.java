@@ -0,0 +1,108 @@
+package net.serenitybdd.jbehave;
+
+import org.jbehave.core.annotations.Given;
+import org.jbehave.core.annotations.ScenarioType;
+import org.jbehave.core.annotations.Then;
+import org.jbehave.core.annotations.When;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.steps.BeforeOrAfterStep;
+import org.jbehave.core.steps.CandidateSteps;
+import org.jbehave.core.steps.InstanceStepsFactory;
+import org.jbehave.core.steps.StepCandidate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares wrapping the step candidates of a steps class with listing the candidates once they are wrapped,
+ * for steps classes of increasing size.
+ * Run it with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CandidateWrappingBenchmark {
+
+    public static class SampleSteps {
+        @Given("I have $amount euros")
+        public void anAmount(String amount) {}
+
+        @When("I pay $amount euros")
+        public void aPayment(String amount) {}
+
+        @Then("I have $amount euros left")
+        public void aBalance(String amount) {}
+    }
+
+    @Param({"16", "64", "256", "1024", "4096"})
+    public int candidateCount;
+
+    private CandidateSteps candidateSteps;
+    private SerenityCandidateSteps wrappedCandidateSteps;
+
+    @Setup
+    public void prepareCandidates() {
+        Configuration configuration = new MostUsefulConfiguration();
+        List<StepCandidate> sampleCandidates = new InstanceStepsFactory(configuration, new SampleSteps())
+                .createCandidateSteps().get(0).listCandidates();
+        List<StepCandidate> candidates = new ArrayList<>();
+        while (candidates.size() < candidateCount) {
+            candidates.add(sampleCandidates.get(candidates.size() % sampleCandidates.size()));
+        }
+        candidateSteps = new FixedCandidateSteps(configuration, candidates);
+        wrappedCandidateSteps = new SerenityCandidateSteps(candidateSteps);
+        wrappedCandidateSteps.listCandidates();
+    }
+
+    @Benchmark
+    public List<StepCandidate> wrapping() {
+        return new SerenityCandidateSteps(candidateSteps).listCandidates();
+    }
+
+    @Benchmark
+    public List<StepCandidate> listingWrappedCandidates() {
+        return wrappedCandidateSteps.listCandidates();
+    }
+
+    private static class FixedCandidateSteps implements CandidateSteps {
+        private final Configuration configuration;
+        private final List<StepCandidate> candidates;
+
+        FixedCandidateSteps(Configuration configuration, List<StepCandidate> candidates) {
+            this.configuration = configuration;
+            this.candidates = candidates;
+        }
+
+        @Override
+        public List<StepCandidate> listCandidates() {
+            return candidates;
+        }
+
+        @Override
+        public List<BeforeOrAfterStep> listBeforeOrAfterStories() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<BeforeOrAfterStep> listBeforeOrAfterStory(boolean givenStory) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<BeforeOrAfterStep> listBeforeOrAfterScenario(ScenarioType type) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Configuration configuration() {
+            return configuration;
+        }
+    }
+}
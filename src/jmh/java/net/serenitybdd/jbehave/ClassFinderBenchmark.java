@@ -0,0 +1,132 @@
+package net.serenitybdd.jbehave;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Finds the classes of a package in a synthetic classpath root, either a directory or a jar.
+ * The classes are spread over a few sub-packages and half of them declare a JBehave step.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassFinderBenchmark {
+
+    private static final String ROOT_PACKAGE = "net.serenitybdd.jbehave.benchmark.generated";
+    private static final int SUB_PACKAGES = 10;
+
+    @Param({"100", "1000"})
+    public int classCount;
+
+    @Param({"directory", "jar"})
+    public String layout;
+
+    private Path workingDirectory;
+    private URLClassLoader classLoader;
+
+    @Setup
+    public void generateClasses() throws IOException {
+        workingDirectory = Files.createTempDirectory("class-finder-benchmark");
+        Path sources = Files.createDirectories(workingDirectory.resolve("sources"));
+        Path classes = Files.createDirectories(workingDirectory.resolve("classes"));
+
+        List<String> sourceFiles = new ArrayList<>();
+        for (int i = 0; i < classCount; i++) {
+            String packageName = ROOT_PACKAGE + ".p" + (i % SUB_PACKAGES);
+            Path sourceFile = sources.resolve(packageName.replace('.', '/')).resolve("Generated" + i + ".java");
+            Files.createDirectories(sourceFile.getParent());
+            Files.write(sourceFile, sourceOf(packageName, "Generated" + i, i % 2 == 0).getBytes(StandardCharsets.UTF_8));
+            sourceFiles.add(sourceFile.toString());
+        }
+        compile(sourceFiles, classes);
+
+        Path classpathRoot = layout.equals("jar") ? jarOf(classes, workingDirectory.resolve("generated.jar")) : classes;
+        classLoader = new URLClassLoader(new URL[]{classpathRoot.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    @TearDown
+    public void deleteClasses() throws IOException {
+        classLoader.close();
+        try (Stream<Path> paths = Files.walk(workingDirectory)) {
+            for (Path path : paths.sorted((first, second) -> second.compareTo(first)).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Class<?>> allClassesInPackage() {
+        return ClassFinder.loadClasses().withClassLoader(classLoader).fromPackage(ROOT_PACKAGE);
+    }
+
+    @Benchmark
+    public List<Class<?>> classesThatMayContainSteps() {
+        return ClassFinder.loadClasses().withClassLoader(classLoader).thatMayContainJBehaveSteps().fromPackage(ROOT_PACKAGE);
+    }
+
+    private static String sourceOf(String packageName, String className, boolean withStep) {
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(packageName).append(";\n");
+        source.append("public class ").append(className).append(" {\n");
+        if (withStep) {
+            source.append("    @org.jbehave.core.annotations.Given(\"step ").append(className).append("\")\n");
+        }
+        source.append("    public void step() {}\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private static void compile(List<String> sourceFiles, Path classes) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> arguments = new ArrayList<>();
+        arguments.add("-proc:none");
+        arguments.add("-classpath");
+        arguments.add(System.getProperty("java.class.path"));
+        arguments.add("-d");
+        arguments.add(classes.toString());
+        arguments.addAll(sourceFiles);
+        if (compiler.run(null, null, null, arguments.toArray(new String[0])) != 0) {
+            throw new IllegalStateException("Could not compile the generated classes");
+        }
+    }
+
+    private static Path jarOf(Path classes, Path jar) throws IOException {
+        try (OutputStream out = Files.newOutputStream(jar);
+             JarOutputStream jarOut = new JarOutputStream(out);
+             Stream<Path> paths = Files.walk(classes)) {
+            for (Path path : paths.sorted().collect(Collectors.toList())) {
+                String entryName = classes.relativize(path).toString().replace(File.separatorChar, '/');
+                if (entryName.isEmpty()) {
+                    continue;
+                }
+                if (Files.isDirectory(path)) {
+                    jarOut.putNextEntry(new JarEntry(entryName + "/"));
+                } else {
+                    jarOut.putNextEntry(new JarEntry(entryName));
+                    Files.copy(path, jarOut);
+                }
+                jarOut.closeEntry();
+            }
+        }
+        return jar;
+    }
+}
@@ -0,0 +1,46 @@
+package net.serenitybdd.jbehave;
+
+import net.serenitybdd.jbehave.converters.DateTimeConverter;
+import net.serenitybdd.jbehave.converters.YearMonthConverter;
+import org.joda.time.DateTime;
+import org.joda.time.YearMonth;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts the date parameters of a step, in each of the formats the converters accept.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class DateTimes {
+        @Param({"2018-10-21", "21/10/2018"})
+        public String value;
+
+        private final DateTimeConverter converter = new DateTimeConverter();
+    }
+
+    @State(Scope.Benchmark)
+    public static class YearMonths {
+        @Param({"2018-10", "10/2018"})
+        public String value;
+
+        private final YearMonthConverter converter = new YearMonthConverter();
+    }
+
+    @Benchmark
+    public DateTime convertDateTime(DateTimes dateTimes) {
+        return dateTimes.converter.convertValue(dateTimes.value, DateTime.class);
+    }
+
+    @Benchmark
+    public YearMonth convertYearMonth(YearMonths yearMonths) {
+        return yearMonths.converter.convertValue(yearMonths.value, YearMonth.class);
+    }
+}
@@ -0,0 +1,74 @@
+package net.serenitybdd.jbehave;
+
+import net.serenitybdd.jbehave.embedders.monitors.ReportingEmbedderMonitor;
+import net.thucydides.core.configuration.WebDriverConfiguration;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.jbehave.core.embedder.MetaFilter;
+import org.jbehave.core.model.Description;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reports the skipped, ignored and work-in-progress scenarios of stories that were filtered out of the run.
+ * Each operation uses a new monitor, so every scenario is reported and the reports are written each time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReportingEmbedderMonitorBenchmark {
+
+    @Param({"1", "10"})
+    public int scenarioCount;
+
+    private Path outputDirectory;
+    private WebDriverConfiguration configuration;
+    private List<Story> notAllowedStories;
+
+    @Setup
+    public void prepareStories() throws IOException {
+        outputDirectory = Files.createTempDirectory("embedder-monitor-benchmark");
+        MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+        environmentVariables.setProperty("thucydides.outputDirectory", outputDirectory.toString());
+        configuration = new WebDriverConfiguration(environmentVariables);
+
+        List<Scenario> scenarios = new ArrayList<>();
+        for (int i = 0; i < scenarioCount; i++) {
+            scenarios.add(new Scenario("Scenario " + i, new Meta(Collections.singletonList(i % 2 == 0 ? "skip" : "wip")),
+                    GivenStories.EMPTY, null, Arrays.asList("Given a step", "When another step", "Then a result")));
+        }
+        notAllowedStories = Collections.singletonList(new Story("stories/filtered.story", Description.EMPTY,
+                Meta.EMPTY, Narrative.EMPTY, GivenStories.EMPTY, scenarios));
+    }
+
+    @TearDown
+    public void deleteReports() throws IOException {
+        try (Stream<Path> paths = Files.walk(outputDirectory)) {
+            for (Path path : paths.sorted(Collections.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void includeFilteredStoriesInReport() {
+        new ReportingEmbedderMonitor(configuration, null).storiesNotAllowed(notAllowedStories, new MetaFilter());
+    }
+}
@@ -0,0 +1,89 @@
+package net.serenitybdd.jbehave;
+
+import net.thucydides.core.configuration.WebDriverConfiguration;
+import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.jbehave.core.model.Description;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The work the reporter does for every step of a scenario, and for the tags of every story and scenario.
+ * The story is started once per iteration; each operation reports one scenario of {@link #STEPS} steps.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerenityReporterBenchmark {
+
+    private static final int STEPS = 10;
+
+    private static final Meta TAGGED_META = new Meta(Arrays.asList(
+            "tag layer:web, component:checkout",
+            "tags priority:high, owner:payments, release:2018.10",
+            "issue PAY-1234",
+            "feature Payments"));
+
+    private Path outputDirectory;
+    private SerenityReporter reporter;
+    private Scenario scenario;
+
+    @Setup(Level.Iteration)
+    public void startStory() throws IOException {
+        outputDirectory = Files.createTempDirectory("reporter-benchmark");
+        MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+        environmentVariables.setProperty("thucydides.outputDirectory", outputDirectory.toString());
+        reporter = new SerenityReporter(new WebDriverConfiguration(environmentVariables));
+
+        List<String> steps = Collections.nCopies(STEPS, "Given a step that passes");
+        scenario = new Scenario("A scenario", Meta.EMPTY, GivenStories.EMPTY, null, steps);
+        Story story = new Story("stories/a_story.story", Description.EMPTY, Meta.EMPTY, Narrative.EMPTY,
+                GivenStories.EMPTY, Collections.singletonList(scenario));
+        reporter.beforeStory(story, false);
+    }
+
+    @TearDown(Level.Iteration)
+    public void discardStory() throws IOException {
+        // The outcomes are only reported at the end of the story, which is not part of the measurement
+        reporter.clearListeners();
+        StepEventBus.getEventBus().clear();
+        try (Stream<Path> paths = Files.walk(outputDirectory)) {
+            for (Path path : paths.sorted(Collections.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STEPS)
+    public void reportScenarioSteps() {
+        reporter.beforeScenario(scenario);
+        for (String step : scenario.getSteps()) {
+            reporter.beforeStep(step);
+            reporter.successful(step);
+        }
+        reporter.afterScenario();
+    }
+
+    @Benchmark
+    public List<String> tagPropertyValues() {
+        return reporter.getTagPropertyValues(TAGGED_META, "tag");
+    }
+}
@@ -0,0 +1,100 @@
+package net.serenitybdd.jbehave;
+
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Lists the story paths of a synthetic classpath root, spread over {@link #FEATURES} feature directories.
+ * With one expression every story is matched by "**&#47;*.story"; with more, each expression matches one feature
+ * directory, as when several story names are passed to findStoriesCalled().
+ * This covers the removal of duplicate paths, which compares every path found with every other one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class StoryPathsBenchmark {
+
+    private static final int FEATURES = 20;
+
+    @Param({"1000", "5000"})
+    public int storyCount;
+
+    @Param({"1", "20"})
+    public int expressionCount;
+
+    private Path storyRoot;
+    private URLClassLoader classLoader;
+    private SerenityStories stories;
+
+    @Setup
+    public void generateStories() throws IOException {
+        storyRoot = Files.createTempDirectory("story-paths-benchmark");
+        for (int i = 0; i < storyCount; i++) {
+            Path story = storyRoot.resolve("stories").resolve("feature" + (i % FEATURES)).resolve("story" + i + ".story");
+            Files.createDirectories(story.getParent());
+            Files.write(story, ("Scenario: story " + i + "\nGiven a step\n").getBytes());
+        }
+        classLoader = new URLClassLoader(new URL[]{storyRoot.toUri().toURL()}, null);
+
+        List<String> expressions = new ArrayList<>();
+        if (expressionCount == 1) {
+            expressions.add("**/*.story");
+        } else {
+            for (int i = 0; i < expressionCount; i++) {
+                expressions.add("**/feature" + (i % FEATURES) + "/*.story");
+            }
+        }
+        stories = new SyntheticStories(classLoader, expressions);
+    }
+
+    @TearDown
+    public void deleteStories() throws IOException {
+        classLoader.close();
+        try (Stream<Path> paths = Files.walk(storyRoot)) {
+            for (Path path : paths.sorted(Collections.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<String> storyPaths() {
+        return stories.storyPaths();
+    }
+
+    private static class SyntheticStories extends SerenityStories {
+        private final ClassLoader classLoader;
+        private final List<String> expressions;
+
+        SyntheticStories(ClassLoader classLoader, List<String> expressions) {
+            super(new MockEnvironmentVariables());
+            this.classLoader = classLoader;
+            this.expressions = expressions;
+        }
+
+        @Override
+        public ClassLoader getClassLoader() {
+            return classLoader;
+        }
+
+        @Override
+        protected List<String> getStoryPathExpressions() {
+            return expressions;
+        }
+    }
+}
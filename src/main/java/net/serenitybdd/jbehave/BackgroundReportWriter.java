@@ -0,0 +1,113 @@
+package net.serenitybdd.jbehave;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.ReportGenerationFailedError;
+import net.thucydides.core.reports.ReportService;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Writes the reports of each story on background writer threads as soon as the story has finished, rather than
+ * keeping the outcomes of every story until the end of the run to report them all in one go.
+ * Only a limited number of stories can wait to be reported: when that many are waiting, the story threads
+ * wait for a report to be written before handing over the next one.
+ * The writer threads are stopped once the writer is flushed, and started again if more stories are handed over.
+ */
+class BackgroundReportWriter implements TestOutcomeSink {
+
+    private final ReportService reportService;
+    private final int writerThreads;
+    private final Semaphore reportSlots;
+    private final Queue<CompletableFuture<Void>> pendingReports = new ConcurrentLinkedQueue<>();
+    private ExecutorService writers;
+
+    BackgroundReportWriter(ReportService reportService, int writerThreads, int queueSize) {
+        this.reportService = reportService;
+        this.writerThreads = writerThreads;
+        this.reportSlots = new Semaphore(writerThreads + queueSize);
+    }
+
+    @Override
+    public void accept(List<TestOutcome> testOutcomes) {
+        pendingReports.removeIf(report -> report.isDone() && !report.isCompletedExceptionally());
+        if (testOutcomes.isEmpty()) {
+            return;
+        }
+        try {
+            reportSlots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReportGenerationFailedError("Interrupted while waiting to write the story reports", e);
+        }
+        synchronized (this) {
+            pendingReports.add(CompletableFuture.runAsync(() -> {
+                try {
+                    reportService.generateReportsFor(testOutcomes);
+                } finally {
+                    reportSlots.release();
+                }
+            }, writers()));
+        }
+    }
+
+    private ExecutorService writers() {
+        if (writers == null) {
+            writers = Executors.newFixedThreadPool(writerThreads,
+                    new ThreadFactoryBuilder().setNameFormat("serenity-report-writer-%d").setDaemon(true).build());
+        }
+        return writers;
+    }
+
+    /**
+     * The outcomes handed to the writer are not kept once they are reported.
+     */
+    @Override
+    public List<TestOutcome> getTestOutcomes() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Wait until the reports of every story handed to the writer so far are on disk, then stop the writer threads.
+     * If some of the reports could not be written, the first failure is thrown once every other report has been
+     * written, with the later failures added to it as suppressed exceptions.
+     */
+    @Override
+    public void flush() {
+        List<Throwable> failures = new ArrayList<>();
+        CompletableFuture<Void> pendingReport;
+        while ((pendingReport = pendingReports.poll()) != null) {
+            try {
+                pendingReport.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ReportGenerationFailedError("Interrupted while waiting for the story reports", e);
+            } catch (ExecutionException e) {
+                failures.add(e.getCause());
+            }
+        }
+        stopIdleWriters();
+        if (!failures.isEmpty()) {
+            ReportGenerationFailedError failure
+                    = new ReportGenerationFailedError("Failed to write the story reports", failures.get(0));
+            failures.subList(1, failures.size()).forEach(failure::addSuppressed);
+            throw failure;
+        }
+    }
+
+    private synchronized void stopIdleWriters() {
+        if (writers != null && pendingReports.isEmpty()) {
+            writers.shutdown();
+            writers = null;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package net.serenitybdd.jbehave;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.parsers.StoryParser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Parses each story file once per JVM, rather than once for the JUnit description and again for the run of every
+ * story runner (and once more wherever it is used as a given story).
+ * Parsed stories are shared by all the story runners using the same story keywords, and kept for as long as the
+ * content of the story file doesn't change. Stories parsed without a path are not cached.
+ * The cache key doesn't cover the configuration of the wrapped parser, so the parsed examples tables keep the table
+ * transformers of the runner that first parsed the story, and tables loaded from separate files are only read when
+ * the story is first parsed. This is why the cache is only used when jbehave.story.parse.cache is set.
+ */
+public class CachingStoryParser implements StoryParser {
+
+    private static final Cache<ParsedStoryKey, ParsedStory> PARSED_STORIES = CacheBuilder.newBuilder().softValues().build();
+
+    private final StoryParser storyParser;
+    private final Object dialect;
+
+    public CachingStoryParser(StoryParser storyParser, Keywords keywords) {
+        this.storyParser = storyParser;
+        this.dialect = dialectOf(keywords);
+    }
+
+    @Override
+    public Story parseStory(String storyAsText) {
+        return storyParser.parseStory(storyAsText);
+    }
+
+    @Override
+    public Story parseStory(String storyAsText, String storyPath) {
+        if (storyPath == null) {
+            return storyParser.parseStory(storyAsText, null);
+        }
+        ParsedStoryKey key = new ParsedStoryKey(storyParser.getClass(), dialect, storyPath);
+        HashCode contentHash = Hashing.murmur3_128().hashString(storyAsText, StandardCharsets.UTF_8);
+
+        ParsedStory parsedStory = PARSED_STORIES.getIfPresent(key);
+        if (parsedStory == null || !parsedStory.contentHash.equals(contentHash)) {
+            parsedStory = new ParsedStory(contentHash, storyParser.parseStory(storyAsText, storyPath));
+            PARSED_STORIES.put(key, parsedStory);
+        }
+        return parsedStory.story;
+    }
+
+    /**
+     * Forget every parsed story.
+     */
+    static void clear() {
+        PARSED_STORIES.invalidateAll();
+    }
+
+    /**
+     * Stories parsed with localized keywords can be shared between configurations using the same locale;
+     * stories parsed with any other keywords are only shared between configurations using the same keywords.
+     */
+    private static Object dialectOf(Keywords keywords) {
+        if (keywords != null && keywords.getClass() == LocalizedKeywords.class) {
+            return ((LocalizedKeywords) keywords).getLocale();
+        }
+        return keywords;
+    }
+
+    private static class ParsedStory {
+        private final HashCode contentHash;
+        private final Story story;
+
+        ParsedStory(HashCode contentHash, Story story) {
+            this.contentHash = contentHash;
+            this.story = story;
+        }
+    }
+
+    private static class ParsedStoryKey {
+        private final Class<?> parserType;
+        private final Object dialect;
+        private final String storyPath;
+
+        ParsedStoryKey(Class<?> parserType, Object dialect, String storyPath) {
+            this.parserType = parserType;
+            this.dialect = dialect;
+            this.storyPath = storyPath;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof ParsedStoryKey)) {
+                return false;
+            }
+            ParsedStoryKey that = (ParsedStoryKey) other;
+            return parserType == that.parserType
+                    && Objects.equals(dialect, that.dialect)
+                    && storyPath.equals(that.storyPath);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(parserType, dialect, storyPath);
+        }
+    }
+}
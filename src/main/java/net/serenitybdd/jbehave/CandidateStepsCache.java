@@ -0,0 +1,93 @@
+package net.serenitybdd.jbehave;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.steps.CandidateSteps;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Step types and candidate steps shared by all the step factories in the JVM.
+ * Step types only depend on the root package and the class loader, so they are found once for every runner.
+ * Candidate steps also hold on to the JBehave configuration they were built with, so they are only shared by the
+ * factories using the same configuration instance, e.g. the runner and the embedder of a story class.
+ * Class loaders and configurations are weakly referenced. The cached entries refer back to them, so the entries are
+ * softly referenced and released under memory pressure once their class loader or configuration is no longer used.
+ */
+public class CandidateStepsCache {
+
+    private static final Cache<ClassLoader, Map<String, List<Class<?>>>> STEP_TYPES
+            = CacheBuilder.newBuilder().weakKeys().softValues().build();
+
+    private static final Cache<Configuration, Map<StepsKey, List<CandidateSteps>>> CANDIDATE_STEPS
+            = CacheBuilder.newBuilder().weakKeys().softValues().build();
+
+    private CandidateStepsCache() {
+    }
+
+    public static List<Class<?>> stepTypesFor(String rootPackage, ClassLoader classLoader, Supplier<List<Class<?>>> stepTypes) {
+        if (rootPackage == null || classLoader == null) {
+            return stepTypes.get();
+        }
+        return entriesFor(STEP_TYPES, classLoader).computeIfAbsent(rootPackage, key -> stepTypes.get());
+    }
+
+    public static List<CandidateSteps> candidateStepsFor(String rootPackage,
+                                                         ClassLoader classLoader,
+                                                         Configuration configuration,
+                                                         Supplier<List<CandidateSteps>> candidateSteps) {
+        if (rootPackage == null || configuration == null) {
+            return candidateSteps.get();
+        }
+        return entriesFor(CANDIDATE_STEPS, configuration).computeIfAbsent(new StepsKey(rootPackage, classLoader),
+                key -> candidateSteps.get());
+    }
+
+    /**
+     * Forget every cached step type and candidate step, e.g. after step classes have been recompiled in a long-lived JVM.
+     */
+    public static void clear() {
+        STEP_TYPES.invalidateAll();
+        CANDIDATE_STEPS.invalidateAll();
+    }
+
+    private static <K, E, V> Map<E, V> entriesFor(Cache<K, Map<E, V>> cache, K key) {
+        try {
+            return cache.get(key, ConcurrentHashMap::new);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static class StepsKey {
+        private final String rootPackage;
+        private final ClassLoader classLoader;
+
+        StepsKey(String rootPackage, ClassLoader classLoader) {
+            this.rootPackage = rootPackage;
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof StepsKey)) {
+                return false;
+            }
+            StepsKey that = (StepsKey) other;
+            return rootPackage.equals(that.rootPackage) && classLoader == that.classLoader;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * rootPackage.hashCode() + System.identityHashCode(classLoader);
+        }
+    }
+}
@@ -1,20 +1,29 @@
 package net.serenitybdd.jbehave;
 
 import com.google.common.collect.ImmutableList;
+import net.serenitybdd.jbehave.reflection.ClassFileSummary;
 import org.reflections.Reflections;
-import org.reflections.scanners.MethodAnnotationsScanner;
-import org.reflections.scanners.ResourcesScanner;
-import org.reflections.scanners.SubTypesScanner;
-import org.reflections.scanners.TypeAnnotationsScanner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Target;
 import java.lang.reflect.Method;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -23,7 +32,12 @@ import java.util.zip.ZipInputStream;
  */
 public class ClassFinder {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClassFinder.class);
+
     private final ClassLoader classLoader;
+    private boolean onlyClassesReferencingJBehaveAnnotations = false;
+    private int parallelism = 1;
+    private boolean usingSerializedReflectionsStores = false;
 
     public ClassFinder(ClassLoader classLoader) {
         this.classLoader = classLoader;
@@ -34,7 +48,33 @@ public class ClassFinder {
     }
 
     public ClassFinder withClassLoader(ClassLoader classLoader) {
-        return new ClassFinder(classLoader);
+        ClassFinder classFinder = new ClassFinder(classLoader);
+        classFinder.onlyClassesReferencingJBehaveAnnotations = this.onlyClassesReferencingJBehaveAnnotations;
+        classFinder.parallelism = this.parallelism;
+        classFinder.usingSerializedReflectionsStores = this.usingSerializedReflectionsStores;
+        return classFinder;
+    }
+
+    /**
+     * Scan each jar and directory tree on the classpath as a separate fork-join task, using at most
+     * <code>parallelism</code> threads. The classes are returned in the same order as a sequential scan.
+     */
+    public ClassFinder inParallel(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, was " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Only load the classes that could declare or inherit JBehave-annotated methods.
+     * The class files are read from the jar or directory first, and classes whose bytecode refers to no JBehave
+     * annotation, directly or through a supertype, are skipped without ever being loaded.
+     */
+    public ClassFinder thatMayContainJBehaveSteps() {
+        onlyClassesReferencingJBehaveAnnotations = true;
+        return this;
     }
 
     /**
@@ -53,26 +93,88 @@ public class ClassFinder {
 
     private List<Class<?>> allClassesInPackage(String packageName) {
         try {
-            String path = packageName.replace('.', '/');
-            if (packageName.isEmpty()) {
-                packageName = "/";
+            List<URI> classpathRoots = classpathRootsFor(packageName);
+            if (parallelism == 1) {
+                return allClassesIn(classpathRoots, packageName);
+            }
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                return pool.invoke(ForkJoinTask.adapt(() -> allClassesIn(classpathRoots, packageName)));
+            } finally {
+                pool.shutdown();
             }
+        } catch (Exception e) {
+            throw new RuntimeException("failed to find all classes in package [" + packageName + "]", e);
+        }
+    }
+
+    private List<Class<?>> allClassesIn(List<URI> classpathRoots, String packageName) {
+        List<ForkJoinTask<List<Class<?>>>> scans = new ArrayList<>();
+        for (URI directory : classpathRoots) {
+            scans.add(scan(() -> fromPackageIn(directory, packageName)));
+        }
+        return joined(scans);
+    }
+
+    /**
+     * Runs the scan as a forked task when scanning in parallel, or straight away otherwise.
+     */
+    private <T> ForkJoinTask<T> scan(Callable<T> scan) {
+        ForkJoinTask<T> task = ForkJoinTask.adapt(scan);
+        if (parallelism > 1 && ForkJoinTask.inForkJoinPool()) {
+            return task.fork();
+        }
+        task.invoke();
+        return task;
+    }
+
+    private static <T> ForkJoinTask<T> completed(T result) {
+        ForkJoinTask<T> task = ForkJoinTask.adapt(() -> result);
+        task.invoke();
+        return task;
+    }
+
+    private List<Class<?>> joined(List<ForkJoinTask<List<Class<?>>>> scans) {
+        List<Class<?>> classes = new ArrayList<>();
+        for (ForkJoinTask<List<Class<?>>> scan : scans) {
+            classes.addAll(scan.join());
+        }
+        return classes;
+    }
+
+    /**
+     * The jar and directory entries on the classpath that contain classes in the given package, in classpath order.
+     *
+     * @param packageName The base package
+     * @return One URI per classpath entry containing the package
+     */
+    public List<URI> classpathRootsFor(String packageName) {
+        try {
+            String path = packageName.replace('.', '/');
             Enumeration<URL> resources = classResourcesOn(path);
             List<URI> dirs = new ArrayList<>();
             while (resources.hasMoreElements()) {
                 URL resource = resources.nextElement();
                 dirs.add(resource.toURI());
             }
-            List<Class<?>> classes = new ArrayList<>();
-            for (URI directory : dirs) {
-                classes.addAll(findClasses(directory, packageName));
-            }
-            return classes;
-        } catch (Exception e) {
-            throw new RuntimeException("failed to find all classes in package [" + packageName + "]", e);
+            return dirs;
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Could not read the class path entries for package [" + packageName + "]", e);
         }
     }
 
+    /**
+     * Scans the classes of the given package and its subpackages found in a single classpath entry,
+     * as returned by {@link #classpathRootsFor(String)}.
+     *
+     * @param classpathRoot The jar or directory entry to scan
+     * @param packageName   The base package
+     * @return The classes
+     */
+    public List<Class<?>> fromPackageIn(URI classpathRoot, String packageName) {
+        return findClasses(classpathRoot, packageName.isEmpty() ? "/" : packageName);
+    }
+
 
     private List<Class<? extends Annotation>> expectedAnnotations;
 
@@ -83,21 +185,66 @@ public class ClassFinder {
 
     public List<Class<?>> annotatedClassesInPackage(String packageName) {
 
-        Reflections reflections = new Reflections(packageName,
-                new SubTypesScanner(),
-                new TypeAnnotationsScanner(),
-                new MethodAnnotationsScanner(),
-                new ResourcesScanner(), getClassLoader());
+        Set<ReflectionsCache.Scan> scans = scansNeededFor(expectedAnnotations);
+        if (scans.isEmpty()) {
+            return ImmutableList.of();
+        }
+        Optional<Reflections> serializedStore = usingSerializedReflectionsStores
+                ? ReflectionsCache.serializedStoreFor(getClassLoader()).filter(store -> ReflectionsCache.canAnswer(store, scans))
+                : Optional.empty();
+        Reflections reflections = serializedStore.orElseGet(() -> ReflectionsCache.scannedStoreFor(packageName, getClassLoader(), scans));
 
-        Set<Class<?>> matchingClasses = new HashSet<>();
+        Set<Class<?>> matchingClasses = new LinkedHashSet<>();
         for (Class<? extends Annotation> expectedAnnotation : expectedAnnotations) {
-            matchingClasses.addAll(reflections.getTypesAnnotatedWith(expectedAnnotation));
-            matchingClasses.addAll(classesFrom(reflections.getMethodsAnnotatedWith(expectedAnnotation)));
+            if (scans.contains(ReflectionsCache.Scan.TYPE_ANNOTATIONS)) {
+                matchingClasses.addAll(reflections.getTypesAnnotatedWith(expectedAnnotation));
+            }
+            if (scans.contains(ReflectionsCache.Scan.METHOD_ANNOTATIONS)) {
+                matchingClasses.addAll(classesFrom(reflections.getMethodsAnnotatedWith(expectedAnnotation)));
+            }
+        }
+        if (serializedStore.isPresent()) {
+            matchingClasses.removeIf(matchingClass -> !isInPackage(matchingClass, packageName));
         }
         return ImmutableList.copyOf(matchingClasses);
 
     }
 
+    /**
+     * Look up annotated classes in the Reflections stores serialized at build time under META-INF/reflections
+     * (e.g. by the reflections-maven plugin), instead of scanning the classpath, when they were built with the
+     * scanners the annotations need.
+     */
+    public ClassFinder usingSerializedReflectionsStores() {
+        usingSerializedReflectionsStores = true;
+        return this;
+    }
+
+    static Set<ReflectionsCache.Scan> scansNeededFor(List<Class<? extends Annotation>> annotations) {
+        Set<ReflectionsCache.Scan> scans = EnumSet.noneOf(ReflectionsCache.Scan.class);
+        for (Class<? extends Annotation> annotation : annotations) {
+            Target target = annotation.getAnnotation(Target.class);
+            if (target == null) {
+                scans.add(ReflectionsCache.Scan.TYPE_ANNOTATIONS);
+                scans.add(ReflectionsCache.Scan.METHOD_ANNOTATIONS);
+                continue;
+            }
+            for (ElementType elementType : target.value()) {
+                if (elementType == ElementType.TYPE || elementType == ElementType.ANNOTATION_TYPE) {
+                    scans.add(ReflectionsCache.Scan.TYPE_ANNOTATIONS);
+                } else if (elementType == ElementType.METHOD) {
+                    scans.add(ReflectionsCache.Scan.METHOD_ANNOTATIONS);
+                }
+            }
+        }
+        return scans;
+    }
+
+    private static boolean isInPackage(Class<?> matchingClass, String packageName) {
+        return packageName.isEmpty()
+                || matchingClass.getName().startsWith(packageName + ".");
+    }
+
     private Collection<Class<?>> classesFrom(Set<Method> annotatedMethods) {
 
         return annotatedMethods.stream()
@@ -143,48 +290,209 @@ public class ClassFinder {
     }
 
     private List<Class<?>> findClassesInJar(URI jarDirectory, String packageName) throws IOException {
-        final String schemeSpecificPart = jarDirectory.getSchemeSpecificPart();
+        Optional<File> jarFile = jarFileOf(jarDirectory);
+        if (jarFile.isPresent()) {
+            return findClassesInJarFile(jarFile.get(), packageName);
+        }
+        return findClassesInJarStream(new URL(jarDirectory.getSchemeSpecificPart().split("!")[0]), packageName);
+    }
 
+    /**
+     * The jar file on the local file system containing the given jar resource, if there is one.
+     */
+    static Optional<File> jarFileOf(URI jarDirectory) {
+        try {
+            URL jar = new URL(jarDirectory.getSchemeSpecificPart().split("!")[0]);
+            if (jar.getProtocol().equals("file")) {
+                return Optional.of(new File(new URI("file", null, jar.getPath(), null)));
+            }
+        } catch (IOException | URISyntaxException e) {
+            LOGGER.debug("Could not locate the jar file for {}", jarDirectory, e);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Only the central directory of the jar is read to list the entries, and only the class files
+     * in the requested package are ever opened.
+     */
+    private List<Class<?>> findClassesInJarFile(File jar, String packageName) throws IOException {
+        String packagePath = packageName.replace('.', '/');
         List<Class<?>> classes = new ArrayList<>();
-        String[] split = schemeSpecificPart.split("!");
-        URL jar = new URL(split[0]);
+        Map<String, ClassFileSummary> classFiles = new LinkedHashMap<>();
+        try (JarFile jarFile = new JarFile(jar)) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                if (entry.getName().startsWith(packagePath) && entry.getName().endsWith(".class")) {
+                    String className = classNameFor(entry);
+                    if (!onlyClassesReferencingJBehaveAnnotations) {
+                        loadClassWithName(className).ifPresent(classes::add);
+                    } else if (isNotAnInnerClass(entry.getName())) {
+                        try (InputStream classFile = jarFile.getInputStream(entry)) {
+                            summaryOf(classFile, className).ifPresent(summary -> classFiles.put(className, summary));
+                        }
+                    }
+                }
+            }
+        }
+        classes.addAll(classesThatMayContainJBehaveSteps(classFiles));
+
+        return classes;
+    }
+
+    /**
+     * Jars that are not on the local file system, such as jars nested in other archives, have to be read as a stream.
+     */
+    private List<Class<?>> findClassesInJarStream(URL jar, String packageName) throws IOException {
+        List<Class<?>> classes = new ArrayList<>();
+        Map<String, ClassFileSummary> classFiles = new LinkedHashMap<>();
         try (ZipInputStream zip = new ZipInputStream(jar.openStream())) {
             ZipEntry entry;
             while ((entry = zip.getNextEntry()) != null) {
                 if (entry.getName().endsWith(".class")) {
                     String className = classNameFor(entry);
                     if (className.startsWith(packageName) && isNotAnInnerClass(className)) {
-                        loadClassWithName(className).ifPresent(classes::add);
+                        if (!onlyClassesReferencingJBehaveAnnotations) {
+                            loadClassWithName(className).ifPresent(classes::add);
+                        } else if (isNotAnInnerClass(entry.getName())) {
+                            summaryOf(zip, className).ifPresent(summary -> classFiles.put(className, summary));
+                        }
                     }
                 }
             }
         }
+        classes.addAll(classesThatMayContainJBehaveSteps(classFiles));
 
         return classes;
     }
 
     private List<Class<?>> findClassesInFileSystemDirectory(URI jarDirectory, String packageName) {
-        List<Class<?>> classes = new ArrayList<>();
+        if (onlyClassesReferencingJBehaveAnnotations) {
+            return classesThatMayContainJBehaveSteps(classFilesIn(new File(jarDirectory), packageName));
+        }
 
         File directory = new File(jarDirectory);
 
         if (!directory.exists()) {
-            return classes;
+            return new ArrayList<>();
         }
+        List<ForkJoinTask<List<Class<?>>>> scans = new ArrayList<>();
         File[] files = directory.listFiles();
         if (files != null) {
             for (File file : files) {
                 if (file.isDirectory()) {
-                    classes.addAll(findClasses(file.toURI(), packageName + "." + file.getName()));
+                    scans.add(scan(() -> findClasses(file.toURI(), packageName + "." + file.getName())));
                 } else if (file.getName().endsWith(".class") && isNotAnInnerClass(file.getName())) {
-                    correspondingClass(packageName, file).ifPresent(classes::add);
+                    List<Class<?>> fileClasses = new ArrayList<>();
+                    correspondingClass(packageName, file).ifPresent(fileClasses::add);
+                    scans.add(completed(fileClasses));
                 }
             }
         }
 
+        return joined(scans);
+    }
+
+    private Map<String, ClassFileSummary> classFilesIn(File directory, String packageName) {
+        List<ForkJoinTask<Map<String, ClassFileSummary>>> scans = new ArrayList<>();
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (file.isDirectory()) {
+                    scans.add(scan(() -> classFilesIn(file, packageName + "." + file.getName())));
+                } else if (file.getName().endsWith(".class") && isNotAnInnerClass(file.getName())) {
+                    String className = packagePrefixFor(packageName) + simpleClassNameOf(file);
+                    Map<String, ClassFileSummary> classFile = new HashMap<>();
+                    summaryOf(file, className).ifPresent(summary -> classFile.put(className, summary));
+                    scans.add(completed(classFile));
+                }
+            }
+        }
+        Map<String, ClassFileSummary> classFiles = new LinkedHashMap<>();
+        for (ForkJoinTask<Map<String, ClassFileSummary>> scan : scans) {
+            classFiles.putAll(scan.join());
+        }
+        return classFiles;
+    }
+
+    private Optional<ClassFileSummary> summaryOf(File file, String className) {
+        try (InputStream classFile = new FileInputStream(file)) {
+            return summaryOf(classFile, className);
+        } catch (IOException e) {
+            LOGGER.debug("Could not read class file {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    private Optional<ClassFileSummary> summaryOf(InputStream classFile, String className) {
+        try {
+            return Optional.of(ClassFileSummary.readFrom(classFile));
+        } catch (IOException e) {
+            LOGGER.debug("Could not read the bytecode of {}", className, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Load the classes that refer to JBehave annotations, or that extend or implement a type that does.
+     */
+    private List<Class<?>> classesThatMayContainJBehaveSteps(Map<String, ClassFileSummary> classFiles) {
+        Map<String, Boolean> resolvedTypes = new HashMap<>();
+        List<Class<?>> classes = new ArrayList<>();
+        for (String className : classFiles.keySet()) {
+            if (mayContainJBehaveSteps(className, classFiles, resolvedTypes)) {
+                loadClassWithName(className).ifPresent(classes::add);
+            }
+        }
         return classes;
     }
 
+    private boolean mayContainJBehaveSteps(String className,
+                                           Map<String, ClassFileSummary> classFiles,
+                                           Map<String, Boolean> resolvedTypes) {
+        Boolean resolved = resolvedTypes.get(className);
+        if (resolved != null) {
+            return resolved;
+        }
+        resolvedTypes.put(className, false);
+
+        boolean mayContainSteps;
+        ClassFileSummary classFile = classFiles.get(className);
+        if (classFile == null) {
+            mayContainSteps = isOutsideTheJdk(className) && loadClassWithName(className).map(this::hasJBehaveAnnotatedMethods).orElse(false);
+        } else {
+            mayContainSteps = classFile.referencesJBehaveAnnotations()
+                    || classFile.getSuperTypes().stream().anyMatch(superType -> mayContainJBehaveSteps(superType, classFiles, resolvedTypes));
+        }
+        resolvedTypes.put(className, mayContainSteps);
+        return mayContainSteps;
+    }
+
+    private boolean isOutsideTheJdk(String className) {
+        return !(className.startsWith("java.") || className.startsWith("javax.") || className.startsWith("sun."));
+    }
+
+    /**
+     * A type whose methods refer to classes that can't be loaded may still have step methods,
+     * so it is kept rather than failing the whole scan.
+     */
+    private boolean hasJBehaveAnnotatedMethods(Class<?> type) {
+        try {
+            for (Method method : type.getMethods()) {
+                for (Annotation annotation : method.getAnnotations()) {
+                    if (annotation.annotationType().getName().startsWith("org.jbehave.core.annotations")) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } catch (LinkageError e) {
+            LOGGER.debug("Could not list the methods of {}", type.getName(), e);
+            return true;
+        }
+    }
+
     private static String classNameFor(ZipEntry entry) {
         return entry.getName().replaceAll("[$].*", "").replaceAll("[.]class", "").replace('/', '.');
     }
@@ -195,7 +503,7 @@ public class ClassFinder {
         } catch (ClassNotFoundException e) {
 //            throw new IllegalArgumentException("Could not find or access class for " + className, e);
             return Optional.empty();
-        } catch (NoClassDefFoundError noClassDefFoundError) {
+        } catch (LinkageError linkageError) {
             return Optional.empty();
         }
     }
@@ -0,0 +1,217 @@
+package net.serenitybdd.jbehave;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.jbehave.core.annotations.ScenarioType;
+import org.jbehave.core.annotations.Scope;
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.model.Lifecycle;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.StepPattern;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.steps.*;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A step collector that matches the steps of a scenario against the candidate steps once, and reuses the matching
+ * candidates for every row of its examples table. Only the parameters of each row are converted again when the steps
+ * are performed.
+ * Steps are matched the same way as {@link MarkUnmatchedStepsAsPending}, which is used for everything else.
+ */
+public class ExamplesTableStepCollector implements StepCollector {
+
+    private final StepCollector delegate;
+    private final StepFinder stepFinder;
+    private final Keywords keywords;
+
+    private final Cache<Scenario, ResolvedScenario> resolvedScenarios = CacheBuilder.newBuilder().weakKeys().build();
+
+    public ExamplesTableStepCollector(StepFinder stepFinder, Keywords keywords) {
+        this(new MarkUnmatchedStepsAsPending(stepFinder, keywords), stepFinder, keywords);
+    }
+
+    public ExamplesTableStepCollector(StepCollector delegate, StepFinder stepFinder, Keywords keywords) {
+        this.delegate = delegate;
+        this.stepFinder = stepFinder;
+        this.keywords = keywords;
+    }
+
+    @Override
+    public List<Step> collectBeforeOrAfterStoriesSteps(List<CandidateSteps> candidateSteps, Stage stage) {
+        return delegate.collectBeforeOrAfterStoriesSteps(candidateSteps, stage);
+    }
+
+    @Override
+    public List<Step> collectBeforeOrAfterStorySteps(List<CandidateSteps> candidateSteps, Story story, Stage stage, boolean givenStory) {
+        return delegate.collectBeforeOrAfterStorySteps(candidateSteps, story, stage, givenStory);
+    }
+
+    @Override
+    public List<Step> collectBeforeOrAfterScenarioSteps(List<CandidateSteps> candidateSteps, Meta storyAndScenarioMeta, Stage stage, ScenarioType type) {
+        return delegate.collectBeforeOrAfterScenarioSteps(candidateSteps, storyAndScenarioMeta, stage, type);
+    }
+
+    @Override
+    public List<Step> collectLifecycleSteps(List<CandidateSteps> candidateSteps, Lifecycle lifecycle, Meta storyAndScenarioMeta, Stage stage) {
+        return delegate.collectLifecycleSteps(candidateSteps, lifecycle, storyAndScenarioMeta, stage);
+    }
+
+    @Override
+    public List<Step> collectLifecycleSteps(List<CandidateSteps> candidateSteps, Lifecycle lifecycle, Meta storyAndScenarioMeta, Stage stage, Scope scope) {
+        return delegate.collectLifecycleSteps(candidateSteps, lifecycle, storyAndScenarioMeta, stage, scope);
+    }
+
+    @Override
+    public List<Step> collectScenarioSteps(List<CandidateSteps> candidateSteps, Scenario scenario, Map<String, String> parameters) {
+        return collectScenarioSteps(candidateSteps, scenario, parameters, new NullStepMonitor());
+    }
+
+    @Override
+    public List<Step> collectScenarioSteps(List<CandidateSteps> candidateSteps, Scenario scenario, Map<String, String> parameters, StepMonitor stepMonitor) {
+        if (parameters.isEmpty() || scenario.getExamplesTable() == null || scenario.getExamplesTable().getRowCount() < 2) {
+            return delegate.collectScenarioSteps(candidateSteps, scenario, parameters, stepMonitor);
+        }
+        ResolvedScenario resolvedScenario = resolvedScenarios.getIfPresent(scenario);
+        if (resolvedScenario == null || resolvedScenario.candidateSteps != candidateSteps) {
+            resolvedScenario = resolve(candidateSteps, scenario, stepMonitor);
+            resolvedScenarios.put(scenario, resolvedScenario);
+        } else {
+            resolvedScenario.replayMatchesTo(stepMonitor);
+        }
+        return resolvedScenario.stepsFor(parameters, stepMonitor);
+    }
+
+    private ResolvedScenario resolve(List<CandidateSteps> candidateSteps, Scenario scenario, StepMonitor stepMonitor) {
+        List<StepCandidate> allCandidates = stepFinder.collectCandidates(candidateSteps);
+        RecordingStepMonitor recordingMonitor = new RecordingStepMonitor(stepMonitor);
+        List<ResolvedStep> resolvedSteps = new ArrayList<>();
+
+        String previousNonAndStep = null;
+        for (String stepAsString : scenario.getSteps()) {
+            ResolvedStep resolvedStep = new ResolvedStep(stepAsString, previousNonAndStep);
+            List<StepCandidate> prioritisedCandidates = stepFinder.prioritise(stepAsString, new ArrayList<>(allCandidates));
+            for (StepCandidate candidate : prioritisedCandidates) {
+                candidate.useStepMonitor(recordingMonitor);
+                if (candidate.ignore(stepAsString)) {
+                    resolvedStep.ignorable = true;
+                    break;
+                }
+                if (candidate.comment(stepAsString)) {
+                    resolvedStep.comment = true;
+                    break;
+                }
+                if (candidate.matches(stepAsString, previousNonAndStep)) {
+                    resolvedStep.candidate = candidate;
+                    break;
+                }
+            }
+            if (!keywords.isAndStep(stepAsString) && !keywords.isIgnorableStep(stepAsString)) {
+                previousNonAndStep = stepAsString;
+            }
+            resolvedSteps.add(resolvedStep);
+        }
+        for (StepCandidate candidate : allCandidates) {
+            candidate.useStepMonitor(stepMonitor);
+        }
+        return new ResolvedScenario(candidateSteps, allCandidates, resolvedSteps, recordingMonitor.matches);
+    }
+
+    private static class ResolvedScenario {
+        private final List<CandidateSteps> candidateSteps;
+        private final List<StepCandidate> allCandidates;
+        private final List<ResolvedStep> resolvedSteps;
+        private final List<PatternMatch> matches;
+
+        ResolvedScenario(List<CandidateSteps> candidateSteps,
+                         List<StepCandidate> allCandidates,
+                         List<ResolvedStep> resolvedSteps,
+                         List<PatternMatch> matches) {
+            this.candidateSteps = candidateSteps;
+            this.allCandidates = allCandidates;
+            this.resolvedSteps = resolvedSteps;
+            this.matches = matches;
+        }
+
+        void replayMatchesTo(StepMonitor stepMonitor) {
+            for (PatternMatch match : matches) {
+                stepMonitor.stepMatchesPattern(match.step, true, match.pattern, match.method, match.stepsInstance);
+            }
+        }
+
+        List<Step> stepsFor(Map<String, String> parameters, StepMonitor stepMonitor) {
+            List<Step> steps = new ArrayList<>();
+            for (ResolvedStep resolvedStep : resolvedSteps) {
+                resolvedStep.addStepsTo(steps, parameters, allCandidates, stepMonitor);
+            }
+            return steps;
+        }
+    }
+
+    private static class ResolvedStep {
+        private final String stepAsString;
+        private final String previousNonAndStep;
+        private StepCandidate candidate;
+        private boolean ignorable;
+        private boolean comment;
+
+        ResolvedStep(String stepAsString, String previousNonAndStep) {
+            this.stepAsString = stepAsString;
+            this.previousNonAndStep = previousNonAndStep;
+        }
+
+        void addStepsTo(List<Step> steps, Map<String, String> parameters, List<StepCandidate> allCandidates, StepMonitor stepMonitor) {
+            if (ignorable) {
+                steps.add(StepCreator.createIgnorableStep(stepAsString));
+            } else if (comment) {
+                steps.add(StepCreator.createComment(stepAsString));
+            } else if (candidate == null) {
+                steps.add(StepCreator.createPendingStep(stepAsString, previousNonAndStep));
+            } else if (candidate.isPending()) {
+                StepCreator.PendingStep pendingStep = (StepCreator.PendingStep) StepCreator.createPendingStep(stepAsString, previousNonAndStep);
+                pendingStep.annotatedOn(candidate.getMethod());
+                steps.add(pendingStep);
+            } else {
+                candidate.useStepMonitor(stepMonitor);
+                steps.add(candidate.createMatchedStep(stepAsString, parameters));
+                if (candidate.isComposite()) {
+                    candidate.addComposedSteps(steps, stepAsString, parameters, allCandidates);
+                }
+            }
+        }
+    }
+
+    private static class PatternMatch {
+        private final String step;
+        private final StepPattern pattern;
+        private final Method method;
+        private final Object stepsInstance;
+
+        PatternMatch(String step, StepPattern pattern, Method method, Object stepsInstance) {
+            this.step = step;
+            this.pattern = pattern;
+            this.method = method;
+            this.stepsInstance = stepsInstance;
+        }
+    }
+
+    private static class RecordingStepMonitor extends DelegatingStepMonitor {
+        private final List<PatternMatch> matches = new ArrayList<>();
+
+        RecordingStepMonitor(StepMonitor delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void stepMatchesPattern(String step, boolean matches, StepPattern pattern, Method method, Object stepsInstance) {
+            super.stepMatchesPattern(step, matches, pattern, method, stepsInstance);
+            if (matches) {
+                this.matches.add(new PatternMatch(step, pattern, method, stepsInstance));
+            }
+        }
+    }
+}
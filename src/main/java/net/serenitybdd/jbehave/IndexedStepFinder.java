@@ -0,0 +1,216 @@
+package net.serenitybdd.jbehave;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.parsers.RegexPrefixCapturingPatternParser;
+import org.jbehave.core.parsers.StepPatternParser;
+import org.jbehave.core.steps.StepCandidate;
+import org.jbehave.core.steps.StepFinder;
+import org.jbehave.core.steps.StepType;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A step finder that only hands the step collector the candidates whose pattern could match a step, instead of
+ * every candidate in the story.
+ * Candidates are indexed by step type and by the literal text of their pattern before the first parameter, bucketed on
+ * its first word, so a step is only matched against the regular expressions of the candidates sharing that prefix.
+ * The candidates found for each step text are cached, so repeated steps (e.g. in data-driven stories) skip the index.
+ * The remaining candidates keep their priority order, so the step collector picks the same candidate as it would
+ * from the complete list.
+ */
+public class IndexedStepFinder extends StepFinder {
+
+    private static final int MAX_CACHED_STEPS = 10_000;
+
+    private final Configuration configuration;
+    private volatile CandidateIndex index;
+
+    public IndexedStepFinder(Configuration configuration) {
+        this(configuration, new ByPriorityField());
+    }
+
+    public IndexedStepFinder(Configuration configuration, PrioritisingStrategy prioritisingStrategy) {
+        super(prioritisingStrategy);
+        this.configuration = configuration;
+    }
+
+    @Override
+    public List<StepCandidate> prioritise(String stepAsText, List<StepCandidate> candidates) {
+        if (candidates.isEmpty() || candidates.get(0).ignore(stepAsText) || candidates.get(0).comment(stepAsText)) {
+            return super.prioritise(stepAsText, candidates);
+        }
+        return super.prioritise(stepAsText, indexFor(candidates).candidatesThatMayMatch(stepAsText, candidates));
+    }
+
+    private CandidateIndex indexFor(List<StepCandidate> candidates) {
+        CandidateIndex currentIndex = index;
+        Keywords keywords = configuration.keywords();
+        StepPatternParser stepPatternParser = configuration.stepPatternParser();
+        if (currentIndex == null || !currentIndex.indexes(candidates, keywords, stepPatternParser)) {
+            currentIndex = new CandidateIndex(candidates, keywords, stepPatternParser);
+            index = currentIndex;
+        }
+        return currentIndex;
+    }
+
+    private static class CandidateIndex {
+        private final Keywords keywords;
+        private final StepPatternParser stepPatternParser;
+        private final StepType[] stepTypes;
+        private final String[] patterns;
+
+        private final Map<StepType, Map<String, List<Integer>>> candidatesByFirstWord = new EnumMap<>(StepType.class);
+        private final Map<StepType, List<Integer>> candidatesWithoutAFirstWord = new EnumMap<>(StepType.class);
+        private final Set<StepType> indexedStepTypes = EnumSet.noneOf(StepType.class);
+        private final String[] literalPrefixes;
+        private final List<Integer> unindexedCandidates = new ArrayList<>();
+
+        private final Cache<String, int[]> candidatesByStep = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_STEPS).build();
+
+        CandidateIndex(List<StepCandidate> candidates, Keywords keywords, StepPatternParser stepPatternParser) {
+            this.keywords = keywords;
+            this.stepPatternParser = stepPatternParser;
+            this.stepTypes = new StepType[candidates.size()];
+            this.patterns = new String[candidates.size()];
+            this.literalPrefixes = new String[candidates.size()];
+
+            String parameterPrefix = (stepPatternParser instanceof RegexPrefixCapturingPatternParser)
+                    ? ((RegexPrefixCapturingPatternParser) stepPatternParser).getPrefix() : null;
+
+            for (int position = 0; position < candidates.size(); position++) {
+                StepCandidate candidate = candidates.get(position);
+                stepTypes[position] = candidate.getStepType();
+                patterns[position] = candidate.getPatternAsString();
+                if (parameterPrefix == null || !isIndexable(stepTypes[position]) || patterns[position] == null
+                        || hasAlternatives(patterns[position])) {
+                    unindexedCandidates.add(position);
+                    continue;
+                }
+                String literalPrefix = normalizedWhitespace(literalPrefixOf(patterns[position], parameterPrefix));
+                literalPrefixes[position] = literalPrefix;
+                indexedStepTypes.add(stepTypes[position]);
+                int endOfFirstWord = literalPrefix.indexOf(' ');
+                if (endOfFirstWord < 0) {
+                    candidatesWithoutAFirstWord.computeIfAbsent(stepTypes[position], type -> new ArrayList<>()).add(position);
+                } else {
+                    candidatesByFirstWord.computeIfAbsent(stepTypes[position], type -> new HashMap<>())
+                            .computeIfAbsent(literalPrefix.substring(0, endOfFirstWord), word -> new ArrayList<>())
+                            .add(position);
+                }
+            }
+        }
+
+        /**
+         * True if this index was built for candidates with the same step types and patterns, in the same order.
+         */
+        boolean indexes(List<StepCandidate> candidates, Keywords keywords, StepPatternParser stepPatternParser) {
+            if (candidates.size() != patterns.length || keywords != this.keywords || stepPatternParser != this.stepPatternParser) {
+                return false;
+            }
+            for (int position = 0; position < patterns.length; position++) {
+                StepCandidate candidate = candidates.get(position);
+                if (candidate.getStepType() != stepTypes[position]
+                        || !Objects.equals(candidate.getPatternAsString(), patterns[position])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        List<StepCandidate> candidatesThatMayMatch(String stepAsText, List<StepCandidate> candidates) {
+            int[] positions;
+            try {
+                positions = candidatesByStep.get(stepAsText, () -> positionsOfCandidatesThatMayMatch(stepAsText));
+            } catch (ExecutionException e) {
+                return candidates;
+            }
+            List<StepCandidate> candidatesThatMayMatch = new ArrayList<>(positions.length);
+            for (int position : positions) {
+                candidatesThatMayMatch.add(candidates.get(position));
+            }
+            return candidatesThatMayMatch;
+        }
+
+        private int[] positionsOfCandidatesThatMayMatch(String stepAsText) {
+            SortedSet<Integer> positions = new TreeSet<>(unindexedCandidates);
+            for (StepType stepType : indexedStepTypes) {
+                addCandidatesFor(stepAsText, stepType, positions);
+            }
+            return positions.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        private void addCandidatesFor(String stepAsText, StepType stepType, Set<Integer> positions) {
+            String stepText;
+            try {
+                stepText = normalizedWhitespace(keywords.stepWithoutStartingWord(stepAsText, stepType));
+            } catch (Keywords.StartingWordNotFound e) {
+                // The candidates of this type cannot match a step that does not start with one of its words
+                return;
+            }
+            int endOfFirstWord = stepText.indexOf(' ');
+            String firstWord = (endOfFirstWord < 0) ? stepText : stepText.substring(0, endOfFirstWord);
+
+            List<Integer> sameFirstWord = candidatesByFirstWord.getOrDefault(stepType, Collections.emptyMap())
+                    .getOrDefault(firstWord, Collections.emptyList());
+            List<Integer> withoutAFirstWord = candidatesWithoutAFirstWord.getOrDefault(stepType, Collections.emptyList());
+            for (List<Integer> bucket : Arrays.asList(sameFirstWord, withoutAFirstWord)) {
+                for (Integer position : bucket) {
+                    if (stepText.startsWith(literalPrefixes[position])) {
+                        positions.add(position);
+                    }
+                }
+            }
+        }
+
+        private static boolean isIndexable(StepType stepType) {
+            return stepType == StepType.GIVEN || stepType == StepType.WHEN || stepType == StepType.THEN;
+        }
+
+        /**
+         * The pattern parser escapes every regular expression character except '|', so a pattern containing one is a
+         * regular expression alternation with no single literal prefix, and is offered for every step.
+         */
+        private static boolean hasAlternatives(String pattern) {
+            return pattern.indexOf('|') >= 0;
+        }
+
+        /**
+         * The pattern text before the first parameter.
+         */
+        private static String literalPrefixOf(String pattern, String parameterPrefix) {
+            int firstParameter = pattern.indexOf(parameterPrefix);
+            return (firstParameter >= 0) ? pattern.substring(0, firstParameter) : pattern;
+        }
+
+        /**
+         * Whitespace in a pattern matches any run of whitespace in a step, so both are compared with each run of
+         * whitespace reduced to a single space.
+         */
+        private static String normalizedWhitespace(String text) {
+            StringBuilder normalized = new StringBuilder(text.length());
+            boolean inWhitespace = false;
+            for (int i = 0; i < text.length(); i++) {
+                char character = text.charAt(i);
+                if (isRegexWhitespace(character)) {
+                    if (!inWhitespace) {
+                        normalized.append(' ');
+                    }
+                    inWhitespace = true;
+                } else {
+                    normalized.append(character);
+                    inWhitespace = false;
+                }
+            }
+            return normalized.toString();
+        }
+
+        private static boolean isRegexWhitespace(char character) {
+            return character == ' ' || character == '\t' || character == '\n'
+                    || character == '\u000B' || character == '\f' || character == '\r';
+        }
+    }
+}
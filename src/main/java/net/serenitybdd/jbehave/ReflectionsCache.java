@@ -0,0 +1,176 @@
+package net.serenitybdd.jbehave;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.reflections.Reflections;
+import org.reflections.scanners.MethodAnnotationsScanner;
+import org.reflections.scanners.Scanner;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.scanners.TypeAnnotationsScanner;
+import org.reflections.serializers.JsonSerializer;
+import org.reflections.serializers.Serializer;
+import org.reflections.serializers.XmlSerializer;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+import org.reflections.vfs.Vfs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Reflections stores shared by every {@link ClassFinder} in the JVM, keyed by package, class loader and the scanners
+ * that were run, so that each package is only scanned once per class loader.
+ * Stores serialized at build time under META-INF/reflections (as *-reflections.xml or *-reflections.json files)
+ * can be used instead of scanning the classpath.
+ * Class loaders are weakly referenced. The stores refer back to their class loader, so they are softly referenced
+ * and released under memory pressure once their class loader is no longer used.
+ */
+public class ReflectionsCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReflectionsCache.class);
+
+    static final String SERIALIZED_STORE_LOCATION = "META-INF/reflections";
+
+    /**
+     * The queries a store needs to answer, each needing its own set of scanners.
+     */
+    public enum Scan {
+        TYPE_ANNOTATIONS(Arrays.asList(TypeAnnotationsScanner.class, SubTypesScanner.class)),
+        METHOD_ANNOTATIONS(Collections.singletonList(MethodAnnotationsScanner.class));
+
+        private final List<Class<? extends Scanner>> scanners;
+
+        Scan(List<Class<? extends Scanner>> scanners) {
+            this.scanners = scanners;
+        }
+    }
+
+    private static final Cache<ClassLoader, Map<StoreKey, Reflections>> SCANNED_STORES
+            = CacheBuilder.newBuilder().weakKeys().softValues().build();
+    private static final Cache<ClassLoader, Optional<Reflections>> SERIALIZED_STORES
+            = CacheBuilder.newBuilder().weakKeys().softValues().build();
+
+    /**
+     * A store of the given package, scanned with only the scanners needed for the requested queries.
+     */
+    public static Reflections scannedStoreFor(String packageName, ClassLoader classLoader, Set<Scan> scans) {
+        return cached(SCANNED_STORES, classLoader, ConcurrentHashMap::new)
+                .computeIfAbsent(new StoreKey(packageName, scans), key -> new Reflections(packageName, scannersFor(scans), classLoader));
+    }
+
+    /**
+     * The stores serialized at build time that can be found by the given class loader, merged into one, if there are any.
+     */
+    public static Optional<Reflections> serializedStoreFor(ClassLoader classLoader) {
+        return cached(SERIALIZED_STORES, classLoader, () -> collectSerializedStores(classLoader));
+    }
+
+    /**
+     * Forget every cached store, e.g. after classes have been recompiled in a long-lived JVM.
+     */
+    public static void clear() {
+        SCANNED_STORES.invalidateAll();
+        SERIALIZED_STORES.invalidateAll();
+    }
+
+    private static <V> V cached(Cache<ClassLoader, V> cache, ClassLoader classLoader, Callable<V> value) {
+        try {
+            return (classLoader == null) ? value.call() : cache.get(classLoader, value);
+        } catch (UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e instanceof ExecutionException ? e.getCause() : e);
+        }
+    }
+
+    /**
+     * True if the store was built with all of the scanners needed for the requested queries.
+     */
+    public static boolean canAnswer(Reflections reflections, Set<Scan> scans) {
+        Set<String> scannedIndexes = reflections.getStore().keySet();
+        for (Scan scan : scans) {
+            for (Class<? extends Scanner> scanner : scan.scanners) {
+                if (!scannedIndexes.contains(scanner.getSimpleName())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static Object[] scannersFor(Set<Scan> scans) {
+        List<Scanner> scanners = new ArrayList<>();
+        for (Scan scan : scans) {
+            for (Class<? extends Scanner> scanner : scan.scanners) {
+                try {
+                    scanners.add(scanner.newInstance());
+                } catch (InstantiationException | IllegalAccessException e) {
+                    throw new IllegalStateException("Could not create Reflections scanner " + scanner, e);
+                }
+            }
+        }
+        return scanners.toArray();
+    }
+
+    private static Optional<Reflections> collectSerializedStores(ClassLoader classLoader) {
+        Collection<java.net.URL> urls = ClasspathHelper.forPackage(SERIALIZED_STORE_LOCATION, classLoader);
+        if (urls.isEmpty()) {
+            return Optional.empty();
+        }
+        // No scanners, so the merged store is only filled from the serialized files
+        Reflections reflections = new Reflections(new ConfigurationBuilder().setScanners().addClassLoader(classLoader));
+        boolean found = false;
+        for (Vfs.File file : Vfs.findFiles(urls, SERIALIZED_STORE_LOCATION,
+                new FilterBuilder().include(".*-reflections\\.xml").include(".*-reflections\\.json"))) {
+            try (InputStream inputStream = file.openInputStream()) {
+                reflections.merge(serializerFor(file.getName()).read(inputStream));
+                found = true;
+            } catch (Exception | NoClassDefFoundError e) {
+                LOGGER.warn("Could not read the serialized Reflections store {}", file.getRelativePath(), e);
+            }
+        }
+        return found ? Optional.of(reflections) : Optional.empty();
+    }
+
+    private static Serializer serializerFor(String fileName) {
+        return fileName.endsWith(".json") ? new JsonSerializer() : new XmlSerializer();
+    }
+
+    private static class StoreKey {
+        private final String packageName;
+        private final Set<Scan> scans;
+
+        StoreKey(String packageName, Set<Scan> scans) {
+            this.packageName = packageName;
+            this.scans = EnumSet.copyOf(scans);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof StoreKey)) {
+                return false;
+            }
+            StoreKey that = (StoreKey) other;
+            return packageName.equals(that.packageName) && scans.equals(that.scans);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(packageName, scans);
+        }
+    }
+}
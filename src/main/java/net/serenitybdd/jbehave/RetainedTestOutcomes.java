@@ -0,0 +1,35 @@
+package net.serenitybdd.jbehave;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.ReportService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the outcomes of the finished stories in memory, and reports them all at once at the end of the run.
+ */
+class RetainedTestOutcomes implements TestOutcomeSink {
+
+    private final ReportService reportService;
+    private final List<TestOutcome> testOutcomes = new ArrayList<>();
+
+    RetainedTestOutcomes(ReportService reportService) {
+        this.reportService = reportService;
+    }
+
+    @Override
+    public synchronized void accept(List<TestOutcome> testOutcomes) {
+        this.testOutcomes.addAll(testOutcomes);
+    }
+
+    @Override
+    public synchronized List<TestOutcome> getTestOutcomes() {
+        return new ArrayList<>(testOutcomes);
+    }
+
+    @Override
+    public void flush() {
+        reportService.generateReportsFor(getTestOutcomes());
+    }
+}
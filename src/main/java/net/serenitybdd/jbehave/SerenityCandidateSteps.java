@@ -6,11 +6,20 @@ import org.jbehave.core.steps.BeforeOrAfterStep;
 import org.jbehave.core.steps.CandidateSteps;
 import org.jbehave.core.steps.StepCandidate;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * Wraps the step candidates of a steps class in {@link SerenityStepCandidate}s.
+ * The candidates are wrapped once and reused by every later call to {@link #listCandidates()}. Each call still
+ * applies the step monitor, paranamer and dry run setting of the configuration to the candidates, as JBehave does
+ * when it creates them; the step monitor only for the calling thread.
+ */
 public class SerenityCandidateSteps implements CandidateSteps {
+
     private final CandidateSteps candidateSteps;
+    private volatile List<StepCandidate> candidates;
 
     SerenityCandidateSteps(CandidateSteps candidateSteps) {
         this.candidateSteps = candidateSteps;
@@ -18,12 +27,35 @@ public class SerenityCandidateSteps implements CandidateSteps {
 
     @Override
     public List<StepCandidate> listCandidates() {
+        List<StepCandidate> wrappedCandidates = candidates;
+        if (wrappedCandidates == null) {
+            synchronized (this) {
+                wrappedCandidates = candidates;
+                if (wrappedCandidates == null) {
+                    wrappedCandidates = Collections.unmodifiableList(wrapped(candidateSteps.listCandidates()));
+                    candidates = wrappedCandidates;
+                }
+            }
+        }
+        useTheConfigurationOf(wrappedCandidates);
+        return wrappedCandidates;
+    }
 
-        return candidateSteps.listCandidates().parallelStream()
+    private List<StepCandidate> wrapped(List<StepCandidate> stepCandidates) {
+        return stepCandidates.stream()
                 .map(SerenityStepCandidate::new)
                 .collect(Collectors.toList());
     }
 
+    private void useTheConfigurationOf(List<StepCandidate> wrappedCandidates) {
+        Configuration configuration = configuration();
+        for (StepCandidate candidate : wrappedCandidates) {
+            candidate.useStepMonitor(configuration.stepMonitor());
+            candidate.useParanamer(configuration.paranamer());
+            candidate.doDryRun(configuration.storyControls().dryRun());
+        }
+    }
+
     @Override
     public List<BeforeOrAfterStep> listBeforeOrAfterStories() {
         return candidateSteps.listBeforeOrAfterStories();
@@ -19,6 +19,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Properties;
 
+import static net.serenitybdd.jbehave.SerenityJBehaveSystemProperties.JBEHAVE_STORY_PARSE_CACHE;
+
 /**
  * A convenience class designed to make it easier to set up JBehave tests with ThucydidesWebdriverIntegration.
  */
@@ -40,7 +42,7 @@ public class SerenityJBehave {
 
         TableTransformers tableTransformers = new TableTransformers();
         LoadFromClasspath utf8StoryLoader = new LoadFromClasspath(StandardCharsets.UTF_8);
-        return new ParanamerConfiguration()
+        Configuration configuration = new ParanamerConfiguration()
                 .useTableTransformers(tableTransformers)
                 .useParameterConverters(
                         new ParameterConverters(utf8StoryLoader, tableTransformers).addConverters(
@@ -62,6 +64,11 @@ public class SerenityJBehave {
                                 .withReporters(new SerenityReporter(systemConfiguration)))
                 .useStoryLoader(utf8StoryLoader)
                 .useFailureStrategy(new IgnoreAssumptionViolations());
+        if (systemConfiguration.getEnvironmentVariables().getPropertyAsBoolean(JBEHAVE_STORY_PARSE_CACHE.getName(), false)) {
+            configuration.useStoryParser(new CachingStoryParser(configuration.storyParser(), configuration.keywords()));
+        }
+        return configuration.useStepFinder(new IndexedStepFinder(configuration))
+                .useStepCollector(new ExamplesTableStepCollector(configuration.stepFinder(), configuration.keywords()));
     }
 
     private static class IgnoreAssumptionViolations implements FailureStrategy {
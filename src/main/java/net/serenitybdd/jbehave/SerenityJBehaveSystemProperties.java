@@ -70,7 +70,111 @@ public enum SerenityJBehaveSystemProperties {
     /**
      * The number of threads to run stories in.
      */
-    JBEHAVE_THREADS;
+    JBEHAVE_THREADS,
+
+    /**
+     * The location of an on-disk index of the step classes found on the classpath, e.g. "build/jbehave/step-classes.index".
+     * Only the jars and directories that changed since the index was written are scanned for step classes again.
+     * If this property is not set, the classpath is scanned on every run.
+     */
+    JBEHAVE_STEP_INDEX,
+
+    /**
+     * Discard the step class index and scan the whole classpath again (defaults to false).
+     */
+    JBEHAVE_STEP_INDEX_REBUILD,
+
+    /**
+     * Read the bytecode of the classes under the root package before loading them, and only load the classes
+     * that refer to JBehave annotations directly or through a supertype (defaults to false).
+     */
+    JBEHAVE_STEP_BYTECODE_FILTER,
+
+    /**
+     * The number of threads used to scan the jars and directories of the classpath for step classes (defaults to 1).
+     * Each classpath entry is scanned as a separate task, and the step classes are returned in classpath order.
+     */
+    JBEHAVE_STEP_SCAN_THREADS,
+
+    /**
+     * Use the step classes listed in the manifests written at compile time by the step class manifest annotation
+     * processor, instead of scanning the classpath entries that have a manifest (defaults to false).
+     * Classpath entries without a manifest are still scanned. Only use it with manifests written by full builds.
+     * The processor is not run automatically: add it to the compilation of the step classes as described in
+     * {@link net.serenitybdd.jbehave.processor.StepClassManifestProcessor}.
+     */
+    JBEHAVE_STEP_MANIFEST,
+
+    /**
+     * Keep the story paths found on the classpath, and the stories found for the names given to findStoriesCalled(),
+     * for the next story runners in the same JVM, until a story directory changes (defaults to false). Useful when stories are run repeatedly from an IDE or a Gradle daemon.
+     */
+    JBEHAVE_STORY_PATH_CACHE,
+
+    /**
+     * Look up the stories named in findStoriesCalled() in an index of the story files on the classpath, built once
+     * per class loader in the JVM, rather than asking the class loader for every story name in every story package
+     * (defaults to false).
+     */
+    JBEHAVE_STORY_RESOURCE_INDEX,
+
+    /**
+     * Parse each story file once, and share the parsed story between all the story runners in the JVM for as long
+     * as the content of the file doesn't change (defaults to false).
+     * Only use it when every story runner uses the same table transformers, and when the examples tables loaded from
+     * separate files don't change during the run: a parsed story keeps the tables and transformers it was parsed with.
+     */
+    JBEHAVE_STORY_PARSE_CACHE,
+
+    /**
+     * Build the performable tree of the stories once, when they are described to JUnit, and perform that same tree
+     * when the stories are run, rather than building it a second time (defaults to false).
+     */
+    JBEHAVE_REUSE_PERFORMABLE_TREE,
+
+    /**
+     * Describe the stories to JUnit by name only before they run, and describe their scenarios, examples and steps
+     * when each story starts (defaults to false). Works best with jbehave.reuse.performable.tree, as the stories are
+     * described from the performable tree.
+     */
+    JBEHAVE_LAZY_DESCRIPTIONS,
+
+    /**
+     * The build tool running the stories: maven, gradle or none.
+     * By default, it is detected from the system properties set by Maven Surefire or Gradle in the test JVM.
+     */
+    JBEHAVE_BUILD_TOOL,
+
+    /**
+     * Write the reports of each story in the background as soon as the story has finished, rather than writing
+     * the reports of every story at the end of the run (defaults to false).
+     * The outcomes of a story are released once its reports are written.
+     */
+    JBEHAVE_STREAM_REPORTS,
+
+    /**
+     * The number of threads writing the story reports when they are streamed (defaults to 1).
+     */
+    JBEHAVE_REPORT_WRITER_THREADS,
+
+    /**
+     * The number of finished stories that can wait for their reports to be written when they are streamed
+     * (defaults to 16). When that many stories are waiting, the next story waits until a report is written.
+     */
+    JBEHAVE_REPORT_QUEUE_SIZE,
+
+    /**
+     * Keep the outcomes of the finished stories in a compressed spool file, rather than in memory, until they are
+     * reported at the end of the run (defaults to false). The spool file is deleted once they are reported.
+     * Has no effect when the reports are streamed, as the outcomes are then not kept at all.
+     */
+    JBEHAVE_SPOOL_OUTCOMES,
+
+    /**
+     * The directory in which the outcomes are spooled when jbehave.spool.outcomes is set
+     * (defaults to the Serenity output directory).
+     */
+    JBEHAVE_SPOOL_DIRECTORY;
 
     public String getName() {return toString().toLowerCase().replaceAll("_",".");}
 
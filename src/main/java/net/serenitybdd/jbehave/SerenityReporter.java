@@ -9,10 +9,12 @@ import net.serenitybdd.core.SerenityReports;
 import net.thucydides.core.model.*;
 import net.thucydides.core.model.stacktrace.RootCauseAnalyzer;
 import net.thucydides.core.reports.ReportService;
+import net.thucydides.core.reports.json.gson.GsonJSONConverter;
 import net.thucydides.core.steps.BaseStepListener;
 import net.thucydides.core.steps.ExecutedStepDescription;
 import net.thucydides.core.steps.StepEventBus;
 import net.thucydides.core.steps.StepFailure;
+import net.thucydides.core.util.EnvironmentVariables;
 import net.thucydides.core.util.Inflector;
 import net.thucydides.core.util.NameConverter;
 import net.thucydides.core.webdriver.DriverConfiguration;
@@ -54,21 +56,30 @@ public class SerenityReporter extends NullStoryReporter {
     private static final String BEFORE_STORIES = "BeforeStories";
     private static final String AFTER_STORIES = "AfterStories";
 
-    private GivenStoryMonitor givenStoryMonitor;
+    private final ThreadLocal<StoryRunState> storyRunStateThreadLocal = ThreadLocal.withInitial(StoryRunState::new);
+
+    private TestOutcomeSink outcomeSink;
 
     public SerenityReporter(DriverConfiguration systemConfiguration) {
         this.systemConfiguration = systemConfiguration;
         serenityListenersThreadLocal = new ThreadLocal<>();
         reportServiceThreadLocal = new ThreadLocal<>();
         baseStepListeners = new ArrayList<>();
-        givenStoryMonitor = new GivenStoryMonitor();
     }
 
 
     protected void clearListeners() {
         serenityListenersThreadLocal.remove();
         reportServiceThreadLocal.remove();
-        givenStoryMonitor.clear();
+        storyRunState().givenStoryMonitor.clear();
+    }
+
+    /**
+     * The state of the stories running in the current thread, so that stories can be reported from several
+     * threads at once.
+     */
+    private StoryRunState storyRunState() {
+        return storyRunStateThreadLocal.get();
     }
 
     protected SerenityListeners getSerenityListeners() {
@@ -96,23 +107,16 @@ public class SerenityReporter extends NullStoryReporter {
         logger.debug("cancelled story {}", story.getName());
     }
 
-    private Stack<Story> storyStack = new Stack<>();
-
-    private Stack<Scenario> activeScenarios = new Stack<>();
-    private List<String> givenStories = new ArrayList<>();
-
     private Story currentStory() {
-        return storyStack.peek();
+        return storyRunState().storyStack.peek();
     }
 
     private void currentStoryIs(Story story) {
-        storyStack.push(story);
+        storyRunState().storyStack.push(story);
     }
 
-    private Map<String, String> storyMetadata;
-
     private void clearActiveScenariosData() {
-        activeScenarios.clear();
+        storyRunState().activeScenarios.clear();
     }
 
     @Override
@@ -122,7 +126,7 @@ public class SerenityReporter extends NullStoryReporter {
 
         currentStoryIs(story);
         noteAnyGivenStoriesFor(story);
-        storyMetadata = getMetadataFrom(story.getMeta());
+        storyRunState().storyMetadata = getMetadataFrom(story.getMeta());
         if (!isFixture(story) && !givenStory) {
 
             clearActiveScenariosData();
@@ -148,14 +152,12 @@ public class SerenityReporter extends NullStoryReporter {
         getSerenityListeners().withDriver(ThucydidesWebDriverSupport.getDriver());
     }
 
-    private boolean nestScenarios = false;
-
     private boolean shouldNestScenarios() {
-        return nestScenarios;
+        return storyRunState().nestScenarios;
     }
 
     private void shouldNestScenarios(boolean nestScenarios) {
-        this.nestScenarios = nestScenarios;
+        storyRunState().nestScenarios = nestScenarios;
     }
 
     private void startTestForFirstScenarioIn(Story story) {
@@ -211,19 +213,20 @@ public class SerenityReporter extends NullStoryReporter {
     }
 
     private boolean isCurrentScenario(String scenarioTitle) {
+        Stack<Scenario> activeScenarios = storyRunState().activeScenarios;
         return !activeScenarios.empty() && scenarioTitle.equals(activeScenarios.peek().getTitle());
     }
 
     private Scenario currentScenario() {
-        return activeScenarios.peek();
+        return storyRunState().activeScenarios.peek();
     }
 
     private void startNewStep(String scenarioTitle) {
-        if (givenStoryMonitor.isInGivenStory() && StepEventBus.getEventBus().areStepsRunning()) {
+        if (storyRunState().givenStoryMonitor.isInGivenStory() && StepEventBus.getEventBus().areStepsRunning()) {
             StepEventBus.getEventBus().updateCurrentStepTitleAsPrecondition(scenarioTitle);
         } else {
             StepEventBus.getEventBus().stepStarted(ExecutedStepDescription.withTitle(scenarioTitle),
-                    givenStoryMonitor.isInGivenStory());
+                    storyRunState().givenStoryMonitor.isInGivenStory());
         }
     }
 
@@ -250,12 +253,12 @@ public class SerenityReporter extends NullStoryReporter {
     private void noteAnyGivenStoriesFor(Story story) {
         for (GivenStory given : story.getGivenStories().getStories()) {
             String givenStoryName = new File(given.getPath()).getName();
-            givenStories.add(givenStoryName);
+            storyRunState().givenStories.add(givenStoryName);
         }
     }
 
     private boolean isAStoryLevelGiven(Story story) {
-        for (String givenStoryName : givenStories) {
+        for (String givenStoryName : storyRunState().givenStories) {
             if (hasSameName(story, givenStoryName)) {
                 return true;
             }
@@ -264,7 +267,7 @@ public class SerenityReporter extends NullStoryReporter {
     }
 
     private void givenStoryDone(Story story) {
-        givenStories.remove(story.getName());
+        storyRunState().givenStories.remove(story.getName());
     }
 
     private boolean hasSameName(Story story, String givenStoryName) {
@@ -356,7 +359,7 @@ public class SerenityReporter extends NullStoryReporter {
     }
 
 
-    private List<String> getTagPropertyValues(Meta metaData, String tagType) {
+    List<String> getTagPropertyValues(Meta metaData, String tagType) {
         if (metaData == null) {
             return new ArrayList<>();
         }
@@ -433,7 +436,7 @@ public class SerenityReporter extends NullStoryReporter {
         Serenity.getCurrentSession().clearMetaData();
 
         Map<String, String> scenarioMetadata = getMetadataFrom(metaData);
-        scenarioMetadata.putAll(storyMetadata);
+        scenarioMetadata.putAll(storyRunState().storyMetadata);
         for (String key : scenarioMetadata.keySet()) {
             Serenity.getCurrentSession().addMetaData(key, scenarioMetadata.get(key));
         }
@@ -480,18 +483,19 @@ public class SerenityReporter extends NullStoryReporter {
         logger.debug("afterStory {}", given);
         shouldNestScenarios(false);
         if (given) {
-            givenStoryMonitor.exitingGivenStory();
+            storyRunState().givenStoryMonitor.exitingGivenStory();
             givenStoryDone(currentStory());
         } else {
             if (isAfterStory(currentStory())) {
                 generateReports();
             } else if (!isFixture(currentStory()) && (!isAStoryLevelGiven(currentStory()))) {
                 StepEventBus.getEventBus().testSuiteFinished();
+                handOverOutcomesOfThisStory();
                 clearListeners();
             }
         }
 
-        storyStack.pop();
+        storyRunState().storyStack.pop();
     }
 
     private boolean isAfterStory(Story currentStory) {
@@ -499,12 +503,92 @@ public class SerenityReporter extends NullStoryReporter {
     }
 
     private synchronized void generateReports() {
-        getReportService().generateReportsFor(getAllTestOutcomes());
+        List<BaseStepListener> remainingListeners;
+        synchronized (baseStepListeners) {
+            remainingListeners = new ArrayList<>(baseStepListeners);
+            baseStepListeners.clear();
+        }
+        outcomeSink().accept(testOutcomesOf(remainingListeners));
+        outcomeSink().flush();
+    }
+
+    /**
+     * Hand the outcomes of the story that has just finished to the outcome sink, and release the listener that
+     * recorded them.
+     */
+    private void handOverOutcomesOfThisStory() {
+        SerenityListeners listeners = serenityListenersThreadLocal.get();
+        if (listeners != null) {
+            BaseStepListener baseStepListener = listeners.getBaseStepListener();
+            synchronized (baseStepListeners) {
+                baseStepListeners.remove(baseStepListener);
+            }
+            outcomeSink().accept(baseStepListener.getTestOutcomes());
+        }
+    }
+
+    /**
+     * The outcomes of the finished stories are written in the background when the reports are streamed
+     * (jbehave.stream.reports), kept on disk until the end of the run when they are spooled (jbehave.spool.outcomes),
+     * and kept in memory until the end of the run otherwise.
+     */
+    private synchronized TestOutcomeSink outcomeSink() {
+        if (outcomeSink == null) {
+            if (shouldStreamReports()) {
+                outcomeSink = backgroundReportWriter();
+            } else if (shouldSpoolOutcomes()) {
+                outcomeSink = new SpooledTestOutcomes(getReportService(),
+                        new GsonJSONConverter(systemConfiguration.getEnvironmentVariables()),
+                        spoolDirectory());
+            } else {
+                outcomeSink = new RetainedTestOutcomes(getReportService());
+            }
+        }
+        return outcomeSink;
     }
 
+    private boolean shouldStreamReports() {
+        return systemConfiguration.getEnvironmentVariables().getPropertyAsBoolean(
+                SerenityJBehaveSystemProperties.JBEHAVE_STREAM_REPORTS.getName(), false);
+    }
+
+    private boolean shouldSpoolOutcomes() {
+        return systemConfiguration.getEnvironmentVariables().getPropertyAsBoolean(
+                SerenityJBehaveSystemProperties.JBEHAVE_SPOOL_OUTCOMES.getName(), false);
+    }
+
+    private File spoolDirectory() {
+        String spoolDirectory = systemConfiguration.getEnvironmentVariables().getProperty(
+                SerenityJBehaveSystemProperties.JBEHAVE_SPOOL_DIRECTORY.getName());
+        return isNotEmpty(spoolDirectory) ? new File(spoolDirectory) : systemConfiguration.getOutputDirectory();
+    }
+
+    private BackgroundReportWriter backgroundReportWriter() {
+        EnvironmentVariables environmentVariables = systemConfiguration.getEnvironmentVariables();
+        return new BackgroundReportWriter(getReportService(),
+                Math.max(1, environmentVariables.getPropertyAsInteger(
+                        SerenityJBehaveSystemProperties.JBEHAVE_REPORT_WRITER_THREADS.getName(), 1)),
+                Math.max(0, environmentVariables.getPropertyAsInteger(
+                        SerenityJBehaveSystemProperties.JBEHAVE_REPORT_QUEUE_SIZE.getName(), 16)));
+    }
+
+    /**
+     * The outcomes of the stories reported so far. When the reports are streamed (jbehave.stream.reports),
+     * this only includes the stories whose outcomes have not been handed to the report writer yet, and when the
+     * outcomes are spooled (jbehave.spool.outcomes), the stories that have not been reported yet.
+     */
     public List<TestOutcome> getAllTestOutcomes() {
+        List<BaseStepListener> listeners;
+        synchronized (baseStepListeners) {
+            listeners = new ArrayList<>(baseStepListeners);
+        }
+        List<TestOutcome> testOutcomes = new ArrayList<>(outcomeSink().getTestOutcomes());
+        testOutcomes.addAll(testOutcomesOf(listeners));
+        return testOutcomes;
+    }
 
-        return baseStepListeners.stream()
+    private List<TestOutcome> testOutcomesOf(List<BaseStepListener> listeners) {
+        return listeners.stream()
                 .map(BaseStepListener::getTestOutcomes)
                 .flatMap(Collection::stream)
                 .collect(Collectors.toList());
@@ -529,7 +613,7 @@ public class SerenityReporter extends NullStoryReporter {
     private void startScenarioCalled(Scenario scenario, Story story) {
         StepEventBus.getEventBus().setTestSource(TEST_SOURCE_JBEHAVE.getValue());
         StepEventBus.getEventBus().testStarted(scenario.getTitle(), story.getPath() + ";" + scenario.getTitle());
-        activeScenarios.add(scenario);
+        storyRunState().activeScenarios.add(scenario);
     }
 
     private boolean shouldResetStepsBeforeEachScenario() {
@@ -598,13 +682,13 @@ public class SerenityReporter extends NullStoryReporter {
         List<String> scenarioTags = scenarioTags(scenario);
         markAsSkippedOrPendingIfAnnotatedAsSuchIn(scenarioTags);
 
-        if (givenStoryMonitor.isInGivenStory() || shouldNestScenarios()) {
+        if (storyRunState().givenStoryMonitor.isInGivenStory() || shouldNestScenarios()) {
             StepEventBus.getEventBus().stepFinished();
         } else {
             if (!(isPending(scenarioTags) || isSkipped(scenarioTags) || isIgnored(scenarioTags))) {
                 StepEventBus.getEventBus().testFinished();
             }
-            activeScenarios.pop();
+            storyRunState().activeScenarios.pop();
         }
 
         ThucydidesWebDriverSupport.clearStepLibraries();
@@ -613,7 +697,7 @@ public class SerenityReporter extends NullStoryReporter {
     @Override
     public void givenStories(GivenStories givenStories) {
         logger.debug("givenStories {}", givenStories);
-        givenStoryMonitor.enteringGivenStory();
+        storyRunState().givenStoryMonitor.enteringGivenStory();
     }
 
     @Override
@@ -621,16 +705,14 @@ public class SerenityReporter extends NullStoryReporter {
         logger.debug("givenStories {}", strings);
     }
 
-    int exampleCount = 0;
-
     @Override
     public void beforeExamples(List<String> steps, ExamplesTable table) {
         logger.debug("beforeExamples {} {}", steps, table);
-        if (givenStoryMonitor.isInGivenStory()) {
+        if (storyRunState().givenStoryMonitor.isInGivenStory()) {
             return;
         }
 
-        exampleCount = 0;
+        storyRunState().exampleCount = 0;
         StepEventBus.getEventBus().useExamplesFrom(serenityTableFrom(table));
     }
 
@@ -655,14 +737,14 @@ public class SerenityReporter extends NullStoryReporter {
     public void example(Map<String, String> tableRow) {
         StepEventBus.getEventBus().clearStepFailures();
 
-        if (givenStoryMonitor.isInGivenStory()) {
+        if (storyRunState().givenStoryMonitor.isInGivenStory()) {
             return;
         }
 
         if (executingExamples()) {
             finishExample();
         }
-        exampleCount++;
+        storyRunState().exampleCount++;
         startExample(tableRow);
     }
 
@@ -675,12 +757,12 @@ public class SerenityReporter extends NullStoryReporter {
     }
 
     private boolean executingExamples() {
-        return (exampleCount > 0);
+        return (storyRunState().exampleCount > 0);
     }
 
     @Override
     public void afterExamples() {
-        if (givenStoryMonitor.isInGivenStory()) {
+        if (storyRunState().givenStoryMonitor.isInGivenStory()) {
             return;
         }
 
@@ -769,6 +851,7 @@ public class SerenityReporter extends NullStoryReporter {
     }
 
     private void declareOutOfSuiteFailure() {
+        Stack<Story> storyStack = storyRunState().storyStack;
         String storyName = !storyStack.isEmpty() ? storyStack.peek().getName() : "Before or After Story";
         String storyId = !storyStack.isEmpty() ? storyStack.peek().getPath() : null;
         StepEventBus.getEventBus().testStarted(storyName, storyId);
@@ -892,4 +975,17 @@ public class SerenityReporter extends NullStoryReporter {
                 : Optional.of(recordedOutcomes.get(recordedOutcomes.size() - 1));
     }
 
+
+    /**
+     * The stories, scenarios and examples being reported in one thread.
+     */
+    private static class StoryRunState {
+        private final Stack<Story> storyStack = new Stack<>();
+        private final Stack<Scenario> activeScenarios = new Stack<>();
+        private final List<String> givenStories = new ArrayList<>();
+        private final GivenStoryMonitor givenStoryMonitor = new GivenStoryMonitor();
+        private Map<String, String> storyMetadata;
+        private boolean nestScenarios = false;
+        private int exampleCount = 0;
+    }
 }
@@ -1,22 +1,42 @@
 package net.serenitybdd.jbehave;
 
 import net.serenitybdd.jbehave.reflection.Extract;
+import com.thoughtworks.paranamer.Paranamer;
 import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.model.StepPattern;
 import org.jbehave.core.parsers.RegexPrefixCapturingPatternParser;
 import org.jbehave.core.steps.InjectableStepsFactory;
 import org.jbehave.core.steps.ParameterControls;
 import org.jbehave.core.steps.ParameterConverters;
 import org.jbehave.core.steps.Step;
 import org.jbehave.core.steps.StepCandidate;
+import org.jbehave.core.steps.StepMonitor;
 import org.jbehave.core.steps.StepType;
 import org.jbehave.core.steps.context.StepsContext;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Type;
 import java.util.Map;
 
+/**
+ * Delegates matching and step creation to the wrapped step candidate.
+ * The same candidates may be shared by stories running in several threads, so the step monitor set through
+ * {@link #useStepMonitor(StepMonitor)} only applies to the calling thread.
+ */
 public class SerenityStepCandidate extends StepCandidate {
 
+    private static final Extract STEPS_FACTORY = Extract.field("stepsFactory");
+    private static final Extract KEYWORDS = Extract.field("keywords");
+    private static final Extract STEP_MONITOR = Extract.field("stepMonitor");
+
+    // Matching and step creation are delegated to the wrapped candidate, so every wrapper can share these
+    private static final StepsContext STEPS_CONTEXT = new StepsContext();
+    private static final RegexPrefixCapturingPatternParser STEP_PATTERN_PARSER = new RegexPrefixCapturingPatternParser();
+    private static final ParameterConverters PARAMETER_CONVERTERS = new ParameterConverters();
+    private static final ParameterControls PARAMETER_CONTROLS = new ParameterControls();
+
     private final StepCandidate stepCandidate;
+    private final ThreadLocal<StepMonitor> stepMonitor;
 
     public SerenityStepCandidate(StepCandidate stepCandidate) {
 
@@ -24,15 +44,33 @@ public class SerenityStepCandidate extends StepCandidate {
                 stepCandidate.getPriority(),
                 stepCandidate.getStepType(),
                 stepCandidate.getMethod(),
-                (Class<?>) Extract.field("stepsType").from(stepCandidate),
-                (InjectableStepsFactory) Extract.field("stepsFactory").from(stepCandidate),
-                new StepsContext(),
-                (Keywords) Extract.field("keywords").from(stepCandidate),
-                new RegexPrefixCapturingPatternParser(),
-                new ParameterConverters(),
-                new ParameterControls());
+                stepCandidate.getStepsType(),
+                (InjectableStepsFactory) STEPS_FACTORY.from(stepCandidate),
+                STEPS_CONTEXT,
+                (Keywords) KEYWORDS.from(stepCandidate),
+                STEP_PATTERN_PARSER,
+                PARAMETER_CONVERTERS,
+                PARAMETER_CONTROLS);
         this.composedOf(stepCandidate.composedSteps());
         this.stepCandidate = stepCandidate;
+        StepMonitor initialStepMonitor = (StepMonitor) STEP_MONITOR.from(stepCandidate);
+        this.stepMonitor = ThreadLocal.withInitial(() -> initialStepMonitor);
+        stepCandidate.useStepMonitor(new CurrentThreadStepMonitor());
+    }
+
+    @Override
+    public void useStepMonitor(StepMonitor stepMonitor) {
+        this.stepMonitor.set(stepMonitor);
+    }
+
+    @Override
+    public void doDryRun(boolean dryRun) {
+        stepCandidate.doDryRun(dryRun);
+    }
+
+    @Override
+    public void useParanamer(Paranamer paranamer) {
+        stepCandidate.useParanamer(paranamer);
     }
 
     @Override
@@ -99,4 +137,66 @@ public class SerenityStepCandidate extends StepCandidate {
     public String toString() {
         return stepCandidate.toString();
     }
+
+    /**
+     * Passes the events of the wrapped candidate on to the step monitor of the current thread.
+     */
+    private class CurrentThreadStepMonitor implements StepMonitor {
+
+        @Override
+        public void stepMatchesType(String stepAsString, String previousAsString, boolean matchesType, StepType stepType,
+                                    Method method, Object stepsInstance) {
+            stepMonitor.get().stepMatchesType(stepAsString, previousAsString, matchesType, stepType, method, stepsInstance);
+        }
+
+        @Override
+        public void stepMatchesPattern(String step, boolean matches, StepPattern stepPattern, Method method, Object stepsInstance) {
+            stepMonitor.get().stepMatchesPattern(step, matches, stepPattern, method, stepsInstance);
+        }
+
+        @Override
+        public void convertedValueOfType(String value, Type type, Object converted, Class<?> converterClass) {
+            stepMonitor.get().convertedValueOfType(value, type, converted, converterClass);
+        }
+
+        @Override
+        public void performing(String step, boolean dryRun) {
+            stepMonitor.get().performing(step, dryRun);
+        }
+
+        @Override
+        public void usingAnnotatedNameForParameter(String name, int position) {
+            stepMonitor.get().usingAnnotatedNameForParameter(name, position);
+        }
+
+        @Override
+        public void usingParameterNameForParameter(String name, int position) {
+            stepMonitor.get().usingParameterNameForParameter(name, position);
+        }
+
+        @Override
+        public void usingTableAnnotatedNameForParameter(String name, int position) {
+            stepMonitor.get().usingTableAnnotatedNameForParameter(name, position);
+        }
+
+        @Override
+        public void usingTableParameterNameForParameter(String name, int position) {
+            stepMonitor.get().usingTableParameterNameForParameter(name, position);
+        }
+
+        @Override
+        public void usingNaturalOrderForParameter(int position) {
+            stepMonitor.get().usingNaturalOrderForParameter(position);
+        }
+
+        @Override
+        public void foundParameter(String parameter, int position) {
+            stepMonitor.get().foundParameter(parameter, position);
+        }
+
+        @Override
+        public void usingStepsContextParameter(String parameter) {
+            stepMonitor.get().usingStepsContextParameter(parameter);
+        }
+    }
 }
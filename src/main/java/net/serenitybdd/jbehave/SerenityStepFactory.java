@@ -6,7 +6,9 @@ import net.thucydides.core.steps.PageObjectDependencyInjector;
 import net.thucydides.core.steps.StepAnnotations;
 import net.thucydides.core.steps.StepFactory;
 import net.thucydides.core.steps.di.DependencyInjectorService;
+import net.thucydides.core.util.EnvironmentVariables;
 import net.thucydides.core.webdriver.ThucydidesWebDriverSupport;
+import org.codehaus.plexus.util.StringUtils;
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.steps.AbstractStepsFactory;
 import org.jbehave.core.steps.CandidateSteps;
@@ -14,37 +16,61 @@ import org.jbehave.core.steps.InjectableStepsFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static net.serenitybdd.jbehave.SerenityJBehaveSystemProperties.JBEHAVE_STEP_BYTECODE_FILTER;
+import static net.serenitybdd.jbehave.SerenityJBehaveSystemProperties.JBEHAVE_STEP_INDEX;
+import static net.serenitybdd.jbehave.SerenityJBehaveSystemProperties.JBEHAVE_STEP_INDEX_REBUILD;
+import static net.serenitybdd.jbehave.SerenityJBehaveSystemProperties.JBEHAVE_STEP_MANIFEST;
+import static net.serenitybdd.jbehave.SerenityJBehaveSystemProperties.JBEHAVE_STEP_SCAN_THREADS;
+
 public class SerenityStepFactory extends AbstractStepsFactory {
 
     private static final ThreadLocal<SerenityStepContext> context = new ThreadLocal<>();
     private static final Logger logger = LoggerFactory.getLogger(SerenityStepFactory.class);
 
+    private final Configuration configuration;
     private final String rootPackage;
     private ClassLoader classLoader;
     private DependencyInjectorService dependencyInjectorService;
+    private EnvironmentVariables environmentVariables;
 
     public SerenityStepFactory(Configuration configuration, String rootPackage, ClassLoader classLoader) {
         super(configuration);
+        this.configuration = configuration;
         this.rootPackage = rootPackage;
         this.classLoader = classLoader;
         this.dependencyInjectorService = Injectors.getInjector().getInstance(DependencyInjectorService.class);
+        this.environmentVariables = Injectors.getInjector().getProvider(EnvironmentVariables.class).get();
     }
 
     private StepFactory getStepFactory() {
         return ThucydidesWebDriverSupport.getStepFactory();
     }
 
+    /**
+     * The candidate steps are built once per root package, class loader and configuration in the JVM.
+     * The step monitor, paranamer and dry run setting are read from the configuration whenever the step candidates
+     * are listed, so changing them in the configuration applies to the shared candidate steps as well.
+     */
     @Override
     public List<CandidateSteps> createCandidateSteps() {
-        return super.createCandidateSteps().stream().map(SerenityCandidateSteps::new).collect(Collectors.toList());
+        return CandidateStepsCache.candidateStepsFor(rootPackage, classLoader, configuration,
+                () -> super.createCandidateSteps().stream()
+                        .map(SerenityCandidateSteps::new)
+                        .collect(Collectors.toList()));
     }
 
     @Override
     protected List<Class<?>> stepsTypes() {
+        return CandidateStepsCache.stepTypesFor(rootPackage, classLoader, this::findStepsTypes);
+    }
+
+    private List<Class<?>> findStepsTypes() {
         List<Class<?>> types = new ArrayList<>();
         for (Class candidateClass : getCandidateClasses() ){
             if (hasAnnotatedMethods(candidateClass)) {
@@ -56,7 +82,11 @@ public class SerenityStepFactory extends AbstractStepsFactory {
 
     protected List<Class> getCandidateClasses() {
 
-        List<Class<?>> allClassesUnderRootPackage = ClassFinder.loadClasses().withClassLoader(classLoader).fromPackage(rootPackage);
+        List<Class<?>> allClassesUnderRootPackage = useStepClassManifests()
+                ? StepClassManifest.stepClassesIn(rootPackage, classFinder())
+                : stepClassIndex()
+                        .map(index -> index.stepClassesIn(rootPackage, classFinder(), this::hasAnnotatedMethods))
+                        .orElseGet(() -> classFinder().fromPackage(rootPackage));
         List<Class> candidateClasses = new ArrayList<>();
         for(Class<?> classUnderRootPackage : allClassesUnderRootPackage) {
             if (hasAnnotatedMethods(classUnderRootPackage)) {
@@ -67,6 +97,29 @@ public class SerenityStepFactory extends AbstractStepsFactory {
         return candidateClasses;
     }
 
+    private ClassFinder classFinder() {
+        ClassFinder classFinder = ClassFinder.loadClasses()
+                .withClassLoader(classLoader)
+                .inParallel(environmentVariables.getPropertyAsInteger(JBEHAVE_STEP_SCAN_THREADS.getName(), 1));
+        if (environmentVariables.getPropertyAsBoolean(JBEHAVE_STEP_BYTECODE_FILTER.getName(), false)) {
+            return classFinder.thatMayContainJBehaveSteps();
+        }
+        return classFinder;
+    }
+
+    private boolean useStepClassManifests() {
+        return environmentVariables.getPropertyAsBoolean(JBEHAVE_STEP_MANIFEST.getName(), false);
+    }
+
+    private Optional<StepClassIndex> stepClassIndex() {
+        String indexLocation = environmentVariables.getProperty(JBEHAVE_STEP_INDEX.getName());
+        if (StringUtils.isEmpty(indexLocation)) {
+            return Optional.empty();
+        }
+        boolean rebuild = environmentVariables.getPropertyAsBoolean(JBEHAVE_STEP_INDEX_REBUILD.getName(), false);
+        return Optional.of(StepClassIndex.storedIn(Paths.get(indexLocation), rebuild));
+    }
+
     @Override
     public Object createInstanceOfType(Class<?> type) {
         Object stepsInstance = getContext().newInstanceOf(type);
@@ -24,11 +24,13 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import static net.serenitybdd.jbehave.SerenityJBehaveSystemProperties.JBEHAVE_STORY_PATH_CACHE;
 import static org.jbehave.core.reporters.Format.*;
 
 /**
@@ -99,46 +101,74 @@ public class SerenityStories extends JUnitStories {
 
     @Override
     public List<String> storyPaths() {
-        Set<String> storyPaths = new HashSet<>();
-
         List<String> pathExpressions = getStoryPathExpressions();
-        StoryFinder storyFinder = new StoryFinder();
+        Set<URL> classpathRoots = allClasspathRoots();
+        if (getEnvironmentVariables().getPropertyAsBoolean(JBEHAVE_STORY_PATH_CACHE.getName(), false)) {
+            return StoryPathCache.instance().storyPathsFor(getClassLoader(), pathExpressions, classpathRoots,
+                    () -> storyPathsIn(classpathRoots, pathExpressions));
+        }
+        return storyPathsIn(classpathRoots, pathExpressions);
+    }
+
+    private List<String> storyPathsIn(Set<URL> classpathRoots, List<String> pathExpressions) {
+        Set<String> storyPaths = new HashSet<>();
         for (String pathExpression : pathExpressions) {
             if (absolutePath(pathExpression)) {
                 storyPaths.add(pathExpression);
             }
-            for (URL classpathRootUrl : allClasspathRoots()) {
-                storyPaths.addAll(storyFinder.findPaths(classpathRootUrl, pathExpression, ""));
-            }
-            storyPaths = removeDuplicatesFrom(storyPaths);
-            storyPaths = pruneGivenStoriesFrom(storyPaths);
         }
+        // Each classpath root is scanned once, matching the files against all the path expressions as it goes
+        List<String> includes = includePatternsIn(pathExpressions);
+        StoryFinder storyFinder = new StoryFinder();
+        for (URL classpathRootUrl : classpathRoots) {
+            storyPaths.addAll(storyFinder.findPaths(classpathRootUrl, includes, Collections.<String>emptyList()));
+        }
+        storyPaths = removeDuplicatesFrom(storyPaths);
+        storyPaths = pruneGivenStoriesFrom(storyPaths);
         return sorted(storyPaths);
     }
 
+    /**
+     * A path expression may itself list several comma-separated patterns, as the story finder accepts.
+     */
+    private List<String> includePatternsIn(List<String> pathExpressions) {
+        List<String> includes = new ArrayList<>();
+        for (String pathExpression : pathExpressions) {
+            includes.addAll(Arrays.asList(pathExpression.split(",")));
+        }
+        return includes;
+    }
+
     private List<String> sorted(Set<String> storyPaths) {
         List<String> sortedStories = Lists.newArrayList(storyPaths);
         Collections.sort(sortedStories);
         return sortedStories;
     }
 
-    private Set<String> removeDuplicatesFrom(Set<String> storyPaths) {
+    /**
+     * Removes the paths that are the end of a longer path, e.g. "a/b.story" when "stories/a/b.story" was also found.
+     * Every part of a path that follows a separator is indexed once, so each path is only looked up once.
+     */
+    static Set<String> removeDuplicatesFrom(Set<String> storyPaths) {
+        Set<String> endsOfLongerPaths = new HashSet<>();
+        for (String storyPath : storyPaths) {
+            for (int i = 0; i < storyPath.length(); i++) {
+                if (isSeparator(storyPath.charAt(i))) {
+                    endsOfLongerPaths.add(storyPath.substring(i + 1));
+                }
+            }
+        }
         Set<String> trimmedPaths = new HashSet<>();
-        for(String storyPath : storyPaths) {
-            if (!thereExistsALongerVersionOf(storyPath, storyPaths)) {
+        for (String storyPath : storyPaths) {
+            if (!endsOfLongerPaths.contains(storyPath)) {
                 trimmedPaths.add(storyPath);
             }
         }
         return trimmedPaths;
     }
 
-    private boolean thereExistsALongerVersionOf(String storyPath, Set<String> storyPaths) {
-        for(String existingPath : storyPaths) {
-            if ((existingPath.endsWith("/" + storyPath)) || (existingPath.endsWith("\\" + storyPath))) {
-                return true;
-            }
-        }
-        return false;
+    private static boolean isSeparator(char character) {
+        return character == '/' || character == '\\';
     }
 
     private Set<String> pruneGivenStoriesFrom(Set<String> storyPaths) {
@@ -244,7 +274,14 @@ public class SerenityStories extends JUnitStories {
     }
 
     public void findStoriesCalled(String storyNames) {
-        Set<String> storyPathElements = new StoryPathFinder(getEnvironmentVariables(), storyNames).findAllElements();
+        StoryPathFinder storyPathFinder = new StoryPathFinder(getEnvironmentVariables(), storyNames);
+        Collection<String> storyPathElements;
+        if (getEnvironmentVariables().getPropertyAsBoolean(JBEHAVE_STORY_PATH_CACHE.getName(), false)) {
+            storyPathElements = StoryPathCache.instance().storyPathsFor(getClassLoader(), storyPathFinder.lookups(),
+                    allClasspathRoots(), () -> new ArrayList<>(storyPathFinder.findAllElements()));
+        } else {
+            storyPathElements = storyPathFinder.findAllElements();
+        }
         storyNamePattern = Joiner.on(";").join(storyPathElements);
     }
 
@@ -0,0 +1,166 @@
+package net.serenitybdd.jbehave;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.ReportGenerationFailedError;
+import net.thucydides.core.reports.ReportService;
+import net.thucydides.core.reports.json.JSONConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Keeps the outcomes of the finished stories in a spool file on local disk rather than in memory, and reads them
+ * back one story at a time when they are reported.
+ * The file is only ever appended to: each story is a record made of its length followed by the deflated JSON form
+ * of the outcomes of the story. It is created when the first story is spooled, and deleted once the stories in it
+ * have been reported.
+ */
+class SpooledTestOutcomes implements TestOutcomeSink {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpooledTestOutcomes.class);
+
+    private final ReportService reportService;
+    private final JSONConverter jsonConverter;
+    private final File spoolDirectory;
+    private File spoolFile;
+    private DataOutputStream spool;
+    private long spooledLength = 0;
+
+    SpooledTestOutcomes(ReportService reportService, JSONConverter jsonConverter, File spoolDirectory) {
+        this.reportService = reportService;
+        this.jsonConverter = jsonConverter;
+        this.spoolDirectory = spoolDirectory;
+    }
+
+    @Override
+    public synchronized void accept(List<TestOutcome> testOutcomes) {
+        if (testOutcomes.isEmpty()) {
+            return;
+        }
+        openSpool();
+        try {
+            byte[] record = deflated(testOutcomes);
+            spool.writeInt(record.length);
+            spool.write(record);
+            spooledLength += Integer.BYTES + record.length;
+        } catch (IOException e) {
+            throw new ReportGenerationFailedError("Could not spool the test outcomes to " + spoolFile, e);
+        }
+    }
+
+    private void openSpool() {
+        if (spool != null) {
+            return;
+        }
+        try {
+            Files.createDirectories(spoolDirectory.toPath());
+            spoolFile = File.createTempFile("serenity-outcomes-", ".spool", spoolDirectory);
+            spoolFile.deleteOnExit();
+            spool = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(spoolFile, true)));
+        } catch (IOException e) {
+            throw new ReportGenerationFailedError("Could not create a spool file for the test outcomes in " + spoolDirectory, e);
+        }
+    }
+
+    /**
+     * Every outcome spooled since the stories were last reported, read back from the spool file.
+     */
+    @Override
+    public synchronized List<TestOutcome> getTestOutcomes() {
+        List<TestOutcome> testOutcomes = new ArrayList<>();
+        readSpooledStories(testOutcomes::addAll);
+        return testOutcomes;
+    }
+
+    /**
+     * Report the stories spooled since the last time the outcomes were reported, one story at a time, then close and
+     * delete the spool file.
+     */
+    @Override
+    public synchronized void flush() {
+        try {
+            readSpooledStories(reportService::generateReportsFor);
+        } finally {
+            deleteSpool();
+        }
+    }
+
+    private void readSpooledStories(Consumer<List<TestOutcome>> storyOutcomes) {
+        if (spool == null) {
+            return;
+        }
+        try {
+            spool.flush();
+            try (DataInputStream records = new DataInputStream(new BufferedInputStream(new FileInputStream(spoolFile)))) {
+                long position = 0;
+                while (position < spooledLength) {
+                    byte[] record = new byte[records.readInt()];
+                    records.readFully(record);
+                    position += Integer.BYTES + record.length;
+                    storyOutcomes.accept(inflated(record));
+                }
+            }
+        } catch (IOException e) {
+            throw new ReportGenerationFailedError("Could not read the test outcomes back from " + spoolFile, e);
+        }
+    }
+
+    private void deleteSpool() {
+        if (spool == null) {
+            return;
+        }
+        try {
+            spool.close();
+            Files.deleteIfExists(spoolFile.toPath());
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete the test outcome spool file {}", spoolFile, e);
+        } finally {
+            spool = null;
+            spoolFile = null;
+            spooledLength = 0;
+        }
+    }
+
+    private byte[] deflated(List<TestOutcome> testOutcomes) throws IOException {
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        try (DataOutputStream recordOutput = new DataOutputStream(new DeflaterOutputStream(record))) {
+            recordOutput.writeInt(testOutcomes.size());
+            for (TestOutcome testOutcome : testOutcomes) {
+                ByteArrayOutputStream json = new ByteArrayOutputStream();
+                jsonConverter.toJson(testOutcome, json);
+                recordOutput.writeInt(json.size());
+                json.writeTo(recordOutput);
+            }
+        }
+        return record.toByteArray();
+    }
+
+    private List<TestOutcome> inflated(byte[] record) throws IOException {
+        try (DataInputStream recordInput = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(record)))) {
+            int outcomeCount = recordInput.readInt();
+            List<TestOutcome> testOutcomes = new ArrayList<>(outcomeCount);
+            for (int outcome = 0; outcome < outcomeCount; outcome++) {
+                byte[] json = new byte[recordInput.readInt()];
+                recordInput.readFully(json);
+                jsonConverter.fromJson(new ByteArrayInputStream(json)).ifPresent(testOutcomes::add);
+            }
+            return testOutcomes;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package net.serenitybdd.jbehave;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * An on-disk index of the step classes found under a root package, recorded per classpath entry.
+ * Jars are fingerprinted by their size and modification time, and directories by a hash of the files they contain,
+ * so only the classpath entries that changed since the index was written are scanned again.
+ * Enable it by setting the <code>jbehave.step.index</code> property to the location of the index file.
+ */
+public class StepClassIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StepClassIndex.class);
+
+    private static final Map<Path, StepClassIndex> INDEXES = new ConcurrentHashMap<>();
+
+    private static final String FINGERPRINT_SEPARATOR = ";";
+    private static final String CLASS_NAME_SEPARATOR = ",";
+
+    private final Path indexFile;
+    private final Properties entries = new Properties();
+
+    private StepClassIndex(Path indexFile) {
+        this.indexFile = indexFile;
+        load();
+    }
+
+    /**
+     * The index stored in the given file, shared by all the step factories in this JVM.
+     */
+    public static StepClassIndex storedIn(Path indexFile) {
+        return storedIn(indexFile, false);
+    }
+
+    /**
+     * The index stored in the given file, shared by all the step factories in this JVM.
+     * If <code>rebuild</code> is true, the stored entries are discarded the first time the index is opened in this JVM.
+     */
+    public static StepClassIndex storedIn(Path indexFile, boolean rebuild) {
+        return INDEXES.computeIfAbsent(indexFile.toAbsolutePath().normalize(), location -> {
+            StepClassIndex index = new StepClassIndex(location);
+            if (rebuild) {
+                index.rebuild();
+            }
+            return index;
+        });
+    }
+
+    /**
+     * Find the step classes under a root package, using the indexed class names for the classpath entries that have
+     * not changed and scanning the others.
+     *
+     * @param rootPackage  The base package
+     * @param classFinder  Used to scan the classpath entries that are not indexed or that have changed
+     * @param isStepClass  Decides which of the scanned classes are step classes
+     * @return The step classes, in classpath order
+     */
+    public synchronized List<Class<?>> stepClassesIn(String rootPackage,
+                                                     ClassFinder classFinder,
+                                                     Predicate<Class<?>> isStepClass) {
+        List<Class<?>> stepClasses = new ArrayList<>();
+        boolean updated = false;
+        for (URI classpathRoot : classFinder.classpathRootsFor(rootPackage)) {
+            String key = classpathRoot.toString();
+            String fingerprint = fingerprintOf(classpathRoot);
+            Optional<List<Class<?>>> indexedClasses = indexedClassesFor(key, fingerprint, classFinder.getClassLoader());
+            if (indexedClasses.isPresent()) {
+                stepClasses.addAll(indexedClasses.get());
+            } else {
+                List<Class<?>> scannedClasses = scan(classpathRoot, rootPackage, classFinder, isStepClass);
+                entries.setProperty(key, fingerprint + FINGERPRINT_SEPARATOR + classNamesOf(scannedClasses));
+                stepClasses.addAll(scannedClasses);
+                updated = true;
+            }
+        }
+        if (updated) {
+            save();
+        }
+        return stepClasses;
+    }
+
+    /**
+     * Discard every indexed entry, so that all the classpath entries are scanned again the next time step classes
+     * are requested.
+     */
+    public synchronized void rebuild() {
+        entries.clear();
+        try {
+            Files.deleteIfExists(indexFile);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete the step class index at {}", indexFile, e);
+        }
+    }
+
+    private List<Class<?>> scan(URI classpathRoot, String rootPackage, ClassFinder classFinder, Predicate<Class<?>> isStepClass) {
+        LOGGER.debug("Scanning {} for step classes", classpathRoot);
+        List<Class<?>> stepClasses = new ArrayList<>();
+        for (Class<?> candidateClass : classFinder.fromPackageIn(classpathRoot, rootPackage)) {
+            if (isStepClass.test(candidateClass)) {
+                stepClasses.add(candidateClass);
+            }
+        }
+        return stepClasses;
+    }
+
+    private Optional<List<Class<?>>> indexedClassesFor(String key, String fingerprint, ClassLoader classLoader) {
+        String entry = entries.getProperty(key);
+        if (entry == null || !entry.startsWith(fingerprint + FINGERPRINT_SEPARATOR)) {
+            return Optional.empty();
+        }
+        String classNames = entry.substring(fingerprint.length() + FINGERPRINT_SEPARATOR.length());
+        List<Class<?>> classes = new ArrayList<>();
+        for (String className : Splitter.on(CLASS_NAME_SEPARATOR).omitEmptyStrings().split(classNames)) {
+            try {
+                classes.add(classLoader.loadClass(className));
+            } catch (ClassNotFoundException | NoClassDefFoundError e) {
+                LOGGER.debug("Indexed step class {} could not be loaded, rescanning {}", className, key);
+                return Optional.empty();
+            }
+        }
+        return Optional.of(classes);
+    }
+
+    private String classNamesOf(List<Class<?>> classes) {
+        List<String> classNames = new ArrayList<>();
+        for (Class<?> indexedClass : classes) {
+            classNames.add(indexedClass.getName());
+        }
+        return Joiner.on(CLASS_NAME_SEPARATOR).join(classNames);
+    }
+
+    static String fingerprintOf(URI classpathRoot) {
+        try {
+            if (classpathRoot.getScheme().equals("jar")) {
+                return fingerprintOfJar(classpathRoot);
+            } else if (classpathRoot.getScheme().equals("file")) {
+                return fingerprintOfDirectory(Paths.get(classpathRoot));
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Could not fingerprint {}", classpathRoot, e);
+        }
+        // An entry that cannot be fingerprinted is never served from the index
+        return UUID.randomUUID().toString();
+    }
+
+    private static String fingerprintOfJar(URI jarDirectory) throws IOException {
+        File jar = ClassFinder.jarFileOf(jarDirectory)
+                .orElseThrow(() -> new IOException("Not a jar on the local file system: " + jarDirectory));
+        return "jar:" + jar.length() + ":" + jar.lastModified();
+    }
+
+    private static String fingerprintOfDirectory(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return "missing";
+        }
+        List<String> fileStamps = new ArrayList<>();
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                fileStamps.add(directory.relativize(file) + ":" + attributes.size() + ":" + attributes.lastModifiedTime().toMillis());
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        Collections.sort(fileStamps);
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (String fileStamp : fileStamps) {
+            hasher.putString(fileStamp, StandardCharsets.UTF_8).putChar('\n');
+        }
+        return "dir:" + hasher.hash();
+    }
+
+    private void load() {
+        if (!Files.exists(indexFile)) {
+            return;
+        }
+        try (InputStream in = Files.newInputStream(indexFile)) {
+            entries.load(in);
+        } catch (IOException e) {
+            LOGGER.warn("Could not read the step class index at {}, it will be rebuilt", indexFile, e);
+            entries.clear();
+        }
+    }
+
+    private void save() {
+        try {
+            Path parent = indexFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temporaryFile = Files.createTempFile(parent, indexFile.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(temporaryFile)) {
+                entries.store(out, "Serenity JBehave step class index");
+            }
+            Files.move(temporaryFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write the step class index at {}", indexFile, e);
+        }
+    }
+}
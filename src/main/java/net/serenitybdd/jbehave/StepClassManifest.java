@@ -0,0 +1,106 @@
+package net.serenitybdd.jbehave;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * The step classes recorded at compile time by the
+ * {@link net.serenitybdd.jbehave.processor.StepClassManifestProcessor}, one binary class name per line,
+ * in a resource of each jar or class directory.
+ */
+public class StepClassManifest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StepClassManifest.class);
+
+    public static final String LOCATION = "META-INF/serenity-jbehave/step-classes";
+
+    private StepClassManifest() {
+    }
+
+    /**
+     * The step classes under the root package: the classes listed in the manifest of each classpath entry that has
+     * one, and the classes found by scanning each classpath entry that doesn't.
+     */
+    public static List<Class<?>> stepClassesIn(String rootPackage, ClassFinder classFinder) {
+        ClassLoader classLoader = classFinder.getClassLoader();
+        Map<String, URL> manifests = manifestsByClasspathEntry(classLoader);
+        List<Class<?>> stepClasses = new ArrayList<>();
+        for (URI packageRoot : classFinder.classpathRootsFor(rootPackage)) {
+            URL manifest = manifests.get(classpathEntryOf(packageRoot.toString(), rootPackage.replace('.', '/')));
+            Optional<List<Class<?>>> listedClasses = (manifest == null)
+                    ? Optional.empty()
+                    : classesListedIn(manifest, rootPackage, classLoader);
+            stepClasses.addAll(listedClasses.orElseGet(() -> classFinder.fromPackageIn(packageRoot, rootPackage)));
+        }
+        return stepClasses;
+    }
+
+    private static Map<String, URL> manifestsByClasspathEntry(ClassLoader classLoader) {
+        Map<String, URL> manifests = new HashMap<>();
+        try {
+            Enumeration<URL> manifestUrls = classLoader.getResources(LOCATION);
+            while (manifestUrls.hasMoreElements()) {
+                URL manifest = manifestUrls.nextElement();
+                manifests.putIfAbsent(classpathEntryOf(manifest.toURI().toString(), LOCATION), manifest);
+            }
+        } catch (IOException | URISyntaxException e) {
+            LOGGER.warn("Could not read the step class manifests, scanning the classpath instead", e);
+            return Collections.emptyMap();
+        }
+        return manifests;
+    }
+
+    /**
+     * The classpath entry holding a resource, e.g. jar:file:/steps.jar! for jar:file:/steps.jar!/some/package/
+     */
+    private static String classpathEntryOf(String resource, String resourcePath) {
+        String entry = resource.endsWith("/") ? resource.substring(0, resource.length() - 1) : resource;
+        if (!resourcePath.isEmpty() && entry.endsWith("/" + resourcePath)) {
+            entry = entry.substring(0, entry.length() - resourcePath.length() - 1);
+        }
+        return entry;
+    }
+
+    private static Optional<List<Class<?>>> classesListedIn(URL manifest, String rootPackage, ClassLoader classLoader) {
+        List<Class<?>> stepClasses = new ArrayList<>();
+        try {
+            for (String className : classNamesIn(manifest, rootPackage)) {
+                stepClasses.add(classLoader.loadClass(className));
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read the step class manifest {}, scanning its classpath entry instead", manifest, e);
+            return Optional.empty();
+        } catch (ClassNotFoundException | LinkageError e) {
+            LOGGER.warn("A step class listed in {} could not be loaded, scanning its classpath entry instead", manifest, e);
+            return Optional.empty();
+        }
+        return Optional.of(stepClasses);
+    }
+
+    private static List<String> classNamesIn(URL manifest, String rootPackage) throws IOException {
+        List<String> classNames = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(manifest.openStream(), StandardCharsets.UTF_8))) {
+            String className;
+            while ((className = reader.readLine()) != null) {
+                className = className.trim();
+                if (!className.isEmpty() && isInPackage(className, rootPackage)) {
+                    classNames.add(className);
+                }
+            }
+        }
+        return classNames;
+    }
+
+    private static boolean isInPackage(String className, String rootPackage) {
+        return rootPackage.isEmpty() || className.startsWith(rootPackage + ".");
+    }
+}
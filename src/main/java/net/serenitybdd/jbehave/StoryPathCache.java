@@ -0,0 +1,223 @@
+package net.serenitybdd.jbehave;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+
+/**
+ * Story paths found on the classpath, kept for the next story runners in the same JVM (e.g. in an IDE or a Gradle
+ * daemon), until a story directory changes.
+ * The directories of the classpath roots are watched for files being created or deleted, and the jars on the
+ * classpath are checked for modifications. Story paths found in any other kind of classpath root are not cached.
+ * Changes are picked up as soon as the file system reports them, which can take a few seconds on some platforms.
+ */
+class StoryPathCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StoryPathCache.class);
+
+    private static final StoryPathCache INSTANCE = new StoryPathCache();
+
+    private final Cache<ClassLoader, Map<StoryPathsKey, CachedStoryPaths>> storyPaths
+            = CacheBuilder.newBuilder().weakKeys().build();
+    private final Map<WatchKey, Set<CachedStoryPaths>> watchers = new ConcurrentHashMap<>();
+    private volatile WatchService watchService;
+
+    static StoryPathCache instance() {
+        return INSTANCE;
+    }
+
+    List<String> storyPathsFor(ClassLoader classLoader,
+                               List<String> pathExpressions,
+                               Set<URL> classpathRoots,
+                               Supplier<List<String>> storyPathFinder) {
+        if (classLoader == null) {
+            return storyPathFinder.get();
+        }
+        processFileSystemChanges();
+
+        Map<StoryPathsKey, CachedStoryPaths> cachedForClassLoader = cachedFor(classLoader);
+        StoryPathsKey key = new StoryPathsKey(pathExpressions, classpathRoots);
+        CachedStoryPaths cached = cachedForClassLoader.get(key);
+        if (cached != null && cached.isUpToDate()) {
+            return new ArrayList<>(cached.storyPaths);
+        }
+
+        // Watch the story directories before looking for the stories, so that no change goes unnoticed
+        if (cached != null) {
+            stopWatchingFor(cached);
+        }
+        Optional<CachedStoryPaths> watched = watch(classpathRoots);
+        List<String> foundStoryPaths = storyPathFinder.get();
+        if (watched.isPresent()) {
+            watched.get().storyPaths = Collections.unmodifiableList(new ArrayList<>(foundStoryPaths));
+            cachedForClassLoader.put(key, watched.get());
+        } else {
+            cachedForClassLoader.remove(key);
+        }
+        return foundStoryPaths;
+    }
+
+    /**
+     * Forget every cached story path.
+     */
+    void clear() {
+        storyPaths.invalidateAll();
+    }
+
+    private Map<StoryPathsKey, CachedStoryPaths> cachedFor(ClassLoader classLoader) {
+        try {
+            return storyPaths.get(classLoader, ConcurrentHashMap::new);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void processFileSystemChanges() {
+        if (watchService == null) {
+            return;
+        }
+        WatchKey watchKey;
+        while ((watchKey = watchService.poll()) != null) {
+            watchKey.pollEvents();
+            Set<CachedStoryPaths> watching = watchers.getOrDefault(watchKey, Collections.emptySet());
+            for (CachedStoryPaths cached : watching) {
+                cached.outOfDate = true;
+            }
+            watching.clear();
+            watchKey.reset();
+        }
+    }
+
+    private void stopWatchingFor(CachedStoryPaths cached) {
+        for (Set<CachedStoryPaths> watching : watchers.values()) {
+            watching.remove(cached);
+        }
+    }
+
+    private Optional<CachedStoryPaths> watch(Set<URL> classpathRoots) {
+        CachedStoryPaths cached = new CachedStoryPaths();
+        try {
+            for (URL classpathRoot : classpathRoots) {
+                if (!"file".equals(classpathRoot.getProtocol())) {
+                    LOGGER.debug("Story paths in {} are not cached", classpathRoot);
+                    return Optional.empty();
+                }
+                Path root = new File(classpathRoot.toURI()).toPath();
+                if (Files.isDirectory(root)) {
+                    watchDirectoriesUnder(root, cached);
+                } else if (Files.isRegularFile(root)) {
+                    cached.jarTimestamps.put(root, root.toFile().lastModified());
+                } else {
+                    watchClosestExistingParentOf(root, cached);
+                }
+            }
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            LOGGER.debug("Story paths are not cached, as the story directories can't be watched", e);
+            stopWatchingFor(cached);
+            return Optional.empty();
+        }
+        return Optional.of(cached);
+    }
+
+    private void watchDirectoriesUnder(Path root, CachedStoryPaths cached) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) throws IOException {
+                watchDirectory(directory, cached);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * A classpath root that doesn't exist yet (e.g. a Gradle resources directory) will be noticed when it is created.
+     */
+    private void watchClosestExistingParentOf(Path root, CachedStoryPaths cached) throws IOException {
+        Path parent = root.toAbsolutePath().getParent();
+        while (parent != null && !Files.isDirectory(parent)) {
+            parent = parent.getParent();
+        }
+        if (parent != null) {
+            watchDirectory(parent, cached);
+        }
+    }
+
+    private void watchDirectory(Path directory, CachedStoryPaths cached) throws IOException {
+        WatchKey watchKey = directory.register(watchService(), ENTRY_CREATE, ENTRY_DELETE);
+        watchers.computeIfAbsent(watchKey, key -> ConcurrentHashMap.newKeySet()).add(cached);
+    }
+
+    private WatchService watchService() throws IOException {
+        if (watchService == null) {
+            synchronized (this) {
+                if (watchService == null) {
+                    watchService = FileSystems.getDefault().newWatchService();
+                }
+            }
+        }
+        return watchService;
+    }
+
+    private static class CachedStoryPaths {
+        private final Map<Path, Long> jarTimestamps = new HashMap<>();
+        private volatile List<String> storyPaths;
+        private volatile boolean outOfDate;
+
+        boolean isUpToDate() {
+            if (outOfDate) {
+                return false;
+            }
+            for (Map.Entry<Path, Long> jarTimestamp : jarTimestamps.entrySet()) {
+                if (jarTimestamp.getKey().toFile().lastModified() != jarTimestamp.getValue()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static class StoryPathsKey {
+        private final List<String> pathExpressions;
+        private final Set<String> classpathRoots;
+
+        StoryPathsKey(List<String> pathExpressions, Set<URL> classpathRoots) {
+            this.pathExpressions = new ArrayList<>(pathExpressions);
+            this.classpathRoots = new HashSet<>();
+            for (URL classpathRoot : classpathRoots) {
+                this.classpathRoots.add(classpathRoot.toExternalForm());
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof StoryPathsKey)) {
+                return false;
+            }
+            StoryPathsKey that = (StoryPathsKey) other;
+            return pathExpressions.equals(that.pathExpressions) && classpathRoots.equals(that.classpathRoots);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * pathExpressions.hashCode() + classpathRoots.hashCode();
+        }
+    }
+}
@@ -6,12 +6,14 @@ import net.thucydides.core.util.EnvironmentVariables;
 import org.codehaus.plexus.util.StringUtils;
 
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import static net.serenitybdd.jbehave.SerenityJBehaveSystemProperties.JBEHAVE_STORY_PACKAGES;
+import static net.serenitybdd.jbehave.SerenityJBehaveSystemProperties.JBEHAVE_STORY_RESOURCE_INDEX;
 import static net.serenitybdd.jbehave.SerenityJBehaveSystemProperties.STORY_DIRECTORY;
 
 class StoryPathFinder {
@@ -57,6 +59,17 @@ class StoryPathFinder {
         return storyPathElements;
     }
 
+    /**
+     * The story names and the packages they are looked for in: on a given classpath, the same lookups find the same
+     * path elements.
+     */
+    List<String> lookups() {
+        List<String> lookups = new ArrayList<>();
+        lookups.add("stories called " + storyNames);
+        lookups.addAll(getClasspathPackages());
+        return lookups;
+    }
+
     private void addPathElement(Set<String> storyPathElements, String storyName, URL storyPath) {
         storyPathElements.add(storyName);
         identifiedStoryPaths.add(storyPath.getFile().toLowerCase());
@@ -79,6 +92,9 @@ class StoryPathFinder {
     }
 
     private Optional<URL> storyOnClasspath(String storyFile) {
+        if (environmentVariables.getPropertyAsBoolean(JBEHAVE_STORY_RESOURCE_INDEX.getName(), false)) {
+            return StoryResourceIndex.sharedFor(getClassLoader()).getResource(storyFile);
+        }
         return Optional.ofNullable(getClassLoader().getResource(storyFile));
     }
 
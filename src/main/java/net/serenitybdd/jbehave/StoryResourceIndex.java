@@ -0,0 +1,215 @@
+package net.serenitybdd.jbehave;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+/**
+ * The story files on the classpath of a class loader, indexed by resource name.
+ * Each classpath root is read once, and the stories are then looked up in memory rather than through the class loader
+ * chain. As with the class loader, a story found in several classpath roots is taken from the first of them.
+ * Resources that are not story files are still looked up through the class loader.
+ * The index of each class loader is built once and shared in the JVM. Class loaders are weakly referenced and the
+ * indexes, which refer back to them, softly referenced.
+ */
+class StoryResourceIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StoryResourceIndex.class);
+
+    private static final String STORY_EXTENSION = ".story";
+
+    private static final Cache<ClassLoader, StoryResourceIndex> INDEXES
+            = CacheBuilder.newBuilder().weakKeys().softValues().build();
+
+    private final ClassLoader classLoader;
+    private final Map<String, URL> stories;
+
+    private StoryResourceIndex(ClassLoader classLoader, Map<String, URL> stories) {
+        this.classLoader = classLoader;
+        this.stories = stories;
+    }
+
+    /**
+     * The shared index of the stories on the classpath of the given class loader, built the first time it is needed.
+     */
+    static StoryResourceIndex sharedFor(ClassLoader classLoader) {
+        if (classLoader == null) {
+            return forClassLoader(null);
+        }
+        try {
+            return INDEXES.get(classLoader, () -> forClassLoader(classLoader));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Forget every shared index, e.g. after stories have been added to the classpath in a long-lived JVM.
+     */
+    static void clear() {
+        INDEXES.invalidateAll();
+    }
+
+    /**
+     * Index the stories on the classpath of the given class loader. If its classpath roots can't all be listed,
+     * every resource is looked up through the class loader.
+     */
+    static StoryResourceIndex forClassLoader(ClassLoader classLoader) {
+        Optional<List<URL>> classpathRoots = classpathRootsOf(classLoader);
+        if (!classpathRoots.isPresent()) {
+            LOGGER.debug("The classpath of {} can't be listed: story resources will not be indexed", classLoader);
+            return new StoryResourceIndex(classLoader, null);
+        }
+        Map<String, URL> stories = new HashMap<>();
+        Set<URL> indexedRoots = new HashSet<>();
+        for (URL classpathRoot : classpathRoots.get()) {
+            try {
+                indexStoriesIn(classpathRoot, stories, indexedRoots);
+            } catch (IOException | URISyntaxException e) {
+                LOGGER.debug("Story resources will not be indexed, as {} could not be read", classpathRoot, e);
+                return new StoryResourceIndex(classLoader, null);
+            }
+        }
+        return new StoryResourceIndex(classLoader, stories);
+    }
+
+    Optional<URL> getResource(String resourceName) {
+        if (stories == null || !resourceName.endsWith(STORY_EXTENSION)) {
+            return Optional.ofNullable(classLoader.getResource(resourceName));
+        }
+        return Optional.ofNullable(stories.get(resourceName));
+    }
+
+    /**
+     * The classpath roots, in the order in which the class loader chain looks them up (parents first).
+     */
+    private static Optional<List<URL>> classpathRootsOf(ClassLoader classLoader) {
+        List<ClassLoader> classLoaders = new ArrayList<>();
+        for (ClassLoader loader = classLoader; loader != null; loader = loader.getParent()) {
+            classLoaders.add(loader);
+        }
+        Collections.reverse(classLoaders);
+
+        Set<URL> classpathRoots = new LinkedHashSet<>();
+        for (ClassLoader loader : classLoaders) {
+            if (loader instanceof URLClassLoader) {
+                Collections.addAll(classpathRoots, ((URLClassLoader) loader).getURLs());
+            } else if (loader == ClassLoader.getSystemClassLoader()) {
+                Optional<List<URL>> systemClasspath = systemClasspath();
+                if (!systemClasspath.isPresent()) {
+                    return Optional.empty();
+                }
+                classpathRoots.addAll(systemClasspath.get());
+            } else if (loader != ClassLoader.getSystemClassLoader().getParent()) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new ArrayList<>(classpathRoots));
+    }
+
+    private static Optional<List<URL>> systemClasspath() {
+        List<URL> classpathRoots = new ArrayList<>();
+        for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+            if (!entry.isEmpty()) {
+                try {
+                    classpathRoots.add(new File(entry).toURI().toURL());
+                } catch (MalformedURLException e) {
+                    return Optional.empty();
+                }
+            }
+        }
+        return Optional.of(classpathRoots);
+    }
+
+    private static void indexStoriesIn(URL classpathRoot,
+                                       Map<String, URL> stories,
+                                       Set<URL> indexedRoots) throws IOException, URISyntaxException {
+        if (!indexedRoots.add(classpathRoot)) {
+            return;
+        }
+        if (!"file".equals(classpathRoot.getProtocol())) {
+            throw new IOException("Unsupported classpath root: " + classpathRoot);
+        }
+        Path root = new File(classpathRoot.toURI()).toPath();
+        if (Files.isDirectory(root)) {
+            indexStoriesInDirectory(root, stories);
+        } else if (Files.isRegularFile(root)) {
+            indexStoriesInJar(root, stories, indexedRoots);
+        }
+    }
+
+    private static void indexStoriesInDirectory(Path root, Map<String, URL> stories) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                String resourceName = root.relativize(file).toString().replace(File.separatorChar, '/');
+                if (resourceName.endsWith(STORY_EXTENSION) && !stories.containsKey(resourceName)) {
+                    stories.put(resourceName, file.toUri().toURL());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * The stories in a jar, followed by those in the jars and directories listed in its manifest class path
+     * (as in the manifest-only jars used by some test runners to launch the tests).
+     */
+    private static void indexStoriesInJar(Path jar,
+                                          Map<String, URL> stories,
+                                          Set<URL> indexedRoots) throws IOException, URISyntaxException {
+        URL jarRoot = jar.toUri().toURL();
+        String jarUrl = jarRoot.toExternalForm();
+        List<URL> manifestClasspath = new ArrayList<>();
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            Manifest manifest = jarFile.getManifest();
+            String classPath = (manifest == null) ? null : manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH);
+            if (classPath != null) {
+                for (String entry : classPath.trim().split("\\s+")) {
+                    if (!entry.isEmpty()) {
+                        manifestClasspath.add(new URL(jarRoot, entry));
+                    }
+                }
+            }
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                String resourceName = entry.getName();
+                if (!entry.isDirectory() && resourceName.endsWith(STORY_EXTENSION) && !stories.containsKey(resourceName)) {
+                    stories.put(resourceName, new URL("jar:" + jarUrl + "!/" + resourceName));
+                }
+            }
+        }
+        for (URL classpathRoot : manifestClasspath) {
+            indexStoriesIn(classpathRoot, stories, indexedRoots);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package net.serenitybdd.jbehave;
+
+import net.thucydides.core.model.TestOutcome;
+
+import java.util.List;
+
+/**
+ * Takes the outcomes of each story as soon as it has finished, so that the listener that recorded them doesn't
+ * have to be kept until the end of the run.
+ */
+interface TestOutcomeSink {
+
+    /**
+     * Take the outcomes of a story that has finished.
+     */
+    void accept(List<TestOutcome> testOutcomes);
+
+    /**
+     * The outcomes taken so far that are still held by this sink.
+     */
+    List<TestOutcome> getTestOutcomes();
+
+    /**
+     * Report the outcomes taken so far, and wait until they are reported.
+     */
+    void flush();
+}
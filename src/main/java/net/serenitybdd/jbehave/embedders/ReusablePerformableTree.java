@@ -0,0 +1,38 @@
+package net.serenitybdd.jbehave.embedders;
+
+import org.jbehave.core.embedder.PerformableTree;
+import org.jbehave.core.model.Story;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * A performable tree whose stories are only added once.
+ * The tree built to describe the stories to JUnit is then performed as it is, rather than being built again
+ * (and held in memory twice) when the stories are run.
+ */
+public class ReusablePerformableTree extends PerformableTree {
+
+    private final Set<String> addedStoryPaths = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean storiesStepsAdded = new AtomicBoolean();
+
+    /**
+     * Each call collects the BeforeStories and AfterStories steps of the root again, so once they are collected, calls
+     * without new stories leave the tree as it is.
+     */
+    @Override
+    public void addStories(RunContext context, List<Story> stories) {
+        List<Story> newStories = stories.stream()
+                .filter(story -> !addedStoryPaths.contains(story.getPath()))
+                .collect(Collectors.toList());
+        boolean firstStories = storiesStepsAdded.compareAndSet(false, true);
+        if (newStories.isEmpty() && !firstStories) {
+            return;
+        }
+        super.addStories(context, newStories);
+        newStories.forEach(story -> addedStoryPaths.add(story.getPath()));
+    }
+}
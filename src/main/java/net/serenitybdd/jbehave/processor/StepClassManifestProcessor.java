@@ -0,0 +1,172 @@
+package net.serenitybdd.jbehave.processor;
+
+import net.serenitybdd.jbehave.StepClassManifest;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Records every top-level class compiled in this build that declares or inherits public methods annotated with a
+ * JBehave step annotation, and that the step factory can instantiate, in the {@link StepClassManifest} resource.
+ * When jbehave.step.manifest is set, the step factory reads the manifest instead of scanning the classpath entry
+ * it was written to.
+ * The processor is not registered as a service, so it only runs in the builds that name it, e.g. with Gradle:
+ * <pre>
+ * dependencies {
+ *     testAnnotationProcessor "net.serenity-bdd:serenity-jbehave:$serenityJBehaveVersion"
+ * }
+ * compileTestJava {
+ *     options.compilerArgs += ['-processor', 'net.serenitybdd.jbehave.processor.StepClassManifestProcessor']
+ * }
+ * </pre>
+ * or with <code>javac -processorpath serenity-jbehave.jar -processor
+ * net.serenitybdd.jbehave.processor.StepClassManifestProcessor</code>.
+ * The manifest only lists the classes compiled in the last compilation, so it is only complete after a full build,
+ * not after an incremental one.
+ */
+public class StepClassManifestProcessor extends AbstractProcessor {
+
+    private static final String JBEHAVE_ANNOTATIONS_PACKAGE = "org.jbehave.core.annotations";
+    private static final String PAGES_TYPE = "net.thucydides.core.pages.Pages";
+
+    private final Set<String> stepClasses = new TreeSet<>();
+    private final Map<String, Boolean> checkedTypes = new HashMap<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        if (roundEnvironment.processingOver()) {
+            writeManifest();
+        } else {
+            for (Element rootElement : roundEnvironment.getRootElements()) {
+                recordStepClassesIn(rootElement);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Nested classes are left out, as they are when the classpath is scanned.
+     */
+    private void recordStepClassesIn(Element element) {
+        if (element.getKind() != ElementKind.CLASS) {
+            return;
+        }
+        TypeElement type = (TypeElement) element;
+        if (canBeInstantiated(type) && hasStepMethods(type)) {
+            stepClasses.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+        }
+    }
+
+    /**
+     * Step classes are created with a public constructor taking no parameters, or only the Serenity pages.
+     */
+    private boolean canBeInstantiated(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        for (Element enclosedElement : type.getEnclosedElements()) {
+            if (enclosedElement.getKind() == ElementKind.CONSTRUCTOR
+                    && enclosedElement.getModifiers().contains(Modifier.PUBLIC)
+                    && takesNoParametersOrOnlyPages((ExecutableElement) enclosedElement)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean takesNoParametersOrOnlyPages(ExecutableElement constructor) {
+        List<? extends VariableElement> parameters = constructor.getParameters();
+        return parameters.isEmpty()
+                || (parameters.size() == 1 && parameters.get(0).asType().toString().equals(PAGES_TYPE));
+    }
+
+    private boolean hasStepMethods(TypeElement type) {
+        String typeName = type.getQualifiedName().toString();
+        Boolean known = checkedTypes.get(typeName);
+        if (known != null) {
+            return known;
+        }
+        boolean hasStepMethods = declaresStepMethods(type) || supertypesOf(type).stream().anyMatch(this::hasStepMethods);
+        checkedTypes.put(typeName, hasStepMethods);
+        return hasStepMethods;
+    }
+
+    private boolean declaresStepMethods(TypeElement type) {
+        for (Element enclosedElement : type.getEnclosedElements()) {
+            if (enclosedElement.getKind() == ElementKind.METHOD
+                    && enclosedElement.getModifiers().contains(Modifier.PUBLIC)
+                    && hasJBehaveAnnotation(enclosedElement)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasJBehaveAnnotation(Element method) {
+        for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            String packageName = processingEnv.getElementUtils().getPackageOf(annotationType).getQualifiedName().toString();
+            if (packageName.equals(JBEHAVE_ANNOTATIONS_PACKAGE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<TypeElement> supertypesOf(TypeElement type) {
+        List<TypeElement> supertypes = new ArrayList<>();
+        addIfDeclared(type.getSuperclass(), supertypes);
+        for (TypeMirror implementedInterface : type.getInterfaces()) {
+            addIfDeclared(implementedInterface, supertypes);
+        }
+        return supertypes;
+    }
+
+    private void addIfDeclared(TypeMirror typeMirror, List<TypeElement> types) {
+        if (typeMirror.getKind() == TypeKind.DECLARED) {
+            types.add((TypeElement) ((DeclaredType) typeMirror).asElement());
+        }
+    }
+
+    private void writeManifest() {
+        if (stepClasses.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject manifest = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", StepClassManifest.LOCATION);
+            try (Writer writer = new OutputStreamWriter(manifest.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String stepClass : stepClasses) {
+                    writer.write(stepClass);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Could not write the JBehave step class manifest: " + e.getMessage());
+        }
+    }
+}
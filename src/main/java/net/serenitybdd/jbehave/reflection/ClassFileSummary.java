@@ -0,0 +1,119 @@
+package net.serenitybdd.jbehave.reflection;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The parts of a compiled class that can be read straight from its .class bytes without loading it:
+ * its name, its direct supertypes, and whether its constant pool refers to any JBehave annotation.
+ */
+public class ClassFileSummary {
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final String JBEHAVE_ANNOTATION_DESCRIPTOR = "Lorg/jbehave/core/annotations/";
+
+    private final String className;
+    private final List<String> superTypes;
+    private final boolean referencesJBehaveAnnotations;
+
+    private ClassFileSummary(String className, List<String> superTypes, boolean referencesJBehaveAnnotations) {
+        this.className = className;
+        this.superTypes = superTypes;
+        this.referencesJBehaveAnnotations = referencesJBehaveAnnotations;
+    }
+
+    /**
+     * Reads the class header and constant pool from the stream. The stream is left open.
+     */
+    public static ClassFileSummary readFrom(InputStream classFile) throws IOException {
+        DataInputStream in = new DataInputStream(classFile);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        in.readUnsignedShort(); // minor version
+        in.readUnsignedShort(); // major version
+
+        int constantPoolCount = in.readUnsignedShort();
+        String[] utf8Entries = new String[constantPoolCount];
+        int[] classEntries = new int[constantPoolCount];
+        boolean referencesJBehaveAnnotations = false;
+
+        for (int index = 1; index < constantPoolCount; index++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1:  // Utf8
+                    utf8Entries[index] = in.readUTF();
+                    if (utf8Entries[index].startsWith(JBEHAVE_ANNOTATION_DESCRIPTOR)) {
+                        referencesJBehaveAnnotations = true;
+                    }
+                    break;
+                case 7:  // Class
+                    classEntries[index] = in.readUnsignedShort();
+                    break;
+                case 8:  // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    in.skipBytes(2);
+                    break;
+                case 15: // MethodHandle
+                    in.skipBytes(3);
+                    break;
+                case 3:  // Integer
+                case 4:  // Float
+                case 9:  // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    in.skipBytes(4);
+                    break;
+                case 5:  // Long
+                case 6:  // Double
+                    in.skipBytes(8);
+                    index++;
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+
+        in.readUnsignedShort(); // access flags
+        String className = classNameAt(in.readUnsignedShort(), classEntries, utf8Entries);
+
+        List<String> superTypes = new ArrayList<>();
+        int superClass = in.readUnsignedShort();
+        if (superClass != 0) {
+            superTypes.add(classNameAt(superClass, classEntries, utf8Entries));
+        }
+        int interfaceCount = in.readUnsignedShort();
+        for (int i = 0; i < interfaceCount; i++) {
+            superTypes.add(classNameAt(in.readUnsignedShort(), classEntries, utf8Entries));
+        }
+        return new ClassFileSummary(className, Collections.unmodifiableList(superTypes), referencesJBehaveAnnotations);
+    }
+
+    private static String classNameAt(int classIndex, int[] classEntries, String[] utf8Entries) {
+        return utf8Entries[classEntries[classIndex]].replace('/', '.');
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * The superclass (if any) followed by the directly implemented interfaces.
+     */
+    public List<String> getSuperTypes() {
+        return superTypes;
+    }
+
+    public boolean referencesJBehaveAnnotations() {
+        return referencesJBehaveAnnotations;
+    }
+}
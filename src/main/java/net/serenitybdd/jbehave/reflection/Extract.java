@@ -1,9 +1,31 @@
 package net.serenitybdd.jbehave.reflection;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Reads the value of a (possibly private) field.
+ * The field is looked up once for every class and field name, and then read through a method handle.
+ */
 public class Extract {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(Extract.class);
+
+    private static final ClassValue<Map<String, Optional<MethodHandle>>> FIELD_GETTERS
+            = new ClassValue<Map<String, Optional<MethodHandle>>>() {
+        @Override
+        protected Map<String, Optional<MethodHandle>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private final String fieldName;
 
     private Extract(String fieldName) {
@@ -15,15 +37,38 @@ public class Extract {
     }
 
     public Object from(Object object) {
+        Optional<MethodHandle> getter = FIELD_GETTERS.get(object.getClass())
+                .computeIfAbsent(fieldName, name -> getterFor(object.getClass(), name));
+        if (!getter.isPresent()) {
+            return null;
+        }
         try {
-            Field field = object.getClass().getDeclaredField(fieldName);
-            field.setAccessible(true);
-            return field.get(object);
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
-        } catch (NoSuchFieldException e) {
-            e.printStackTrace();
+            return getter.get().invoke(object);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            LOGGER.warn("Could not read the field {} of {}", fieldName, object.getClass().getName(), e);
         }
         return null;
     }
+
+    /**
+     * The field may be declared by the class of the object or by one of its superclasses.
+     */
+    private static Optional<MethodHandle> getterFor(Class<?> type, String fieldName) {
+        for (Class<?> declaringClass = type; declaringClass != null; declaringClass = declaringClass.getSuperclass()) {
+            try {
+                Field field = declaringClass.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                return Optional.of(MethodHandles.lookup().unreflectGetter(field));
+            } catch (NoSuchFieldException e) {
+                // Look in the superclass
+            } catch (IllegalAccessException e) {
+                LOGGER.warn("Could not access the field {} of {}", fieldName, declaringClass.getName(), e);
+                return Optional.empty();
+            }
+        }
+        LOGGER.debug("No field {} found in {} or its superclasses", fieldName, type.getName());
+        return Optional.empty();
+    }
 }
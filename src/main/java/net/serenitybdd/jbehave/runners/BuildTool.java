@@ -0,0 +1,55 @@
+package net.serenitybdd.jbehave.runners;
+
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+/**
+ * The build tool the stories are run from, if any.
+ * It is detected once per JVM, from the system properties the build tool sets in the test JVM or, failing that,
+ * from the stack of the first runner that asks.
+ */
+public enum BuildTool {
+    MAVEN, GRADLE, NONE;
+
+    private static volatile BuildTool detectedBuildTool;
+
+    /**
+     * The build tool named by the given setting (maven, gradle or none), or the detected build tool
+     * if there is no such setting.
+     */
+    public static BuildTool from(String buildToolSetting) {
+        return named(buildToolSetting).orElseGet(BuildTool::detected);
+    }
+
+    public static BuildTool detected() {
+        if (detectedBuildTool == null) {
+            detectedBuildTool = detectFrom(System.getProperties(), new Exception().getStackTrace());
+        }
+        return detectedBuildTool;
+    }
+
+    static BuildTool detectFrom(Properties systemProperties, StackTraceElement[] stackTrace) {
+        if (systemProperties.containsKey("org.gradle.test.worker")) {
+            return GRADLE;
+        }
+        if (systemProperties.containsKey("surefire.test.class.path")
+                || systemProperties.containsKey("surefire.real.class.path")) {
+            return MAVEN;
+        }
+        if (Stream.of(stackTrace).anyMatch(element -> element.getClassName().startsWith("org.gradle"))) {
+            return GRADLE;
+        }
+        if (Stream.of(stackTrace).anyMatch(element -> element.getClassName().contains("maven"))) {
+            return MAVEN;
+        }
+        return NONE;
+    }
+
+    private static Optional<BuildTool> named(String buildToolSetting) {
+        if (buildToolSetting == null) {
+            return Optional.empty();
+        }
+        return Stream.of(values()).filter(buildTool -> buildTool.name().equalsIgnoreCase(buildToolSetting.trim())).findFirst();
+    }
+}
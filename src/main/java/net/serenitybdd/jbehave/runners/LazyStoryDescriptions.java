@@ -0,0 +1,107 @@
+package net.serenitybdd.jbehave.runners;
+
+import com.github.valfirst.jbehave.junit.monitoring.JUnitDescriptionGenerator;
+import org.jbehave.core.embedder.PerformableTree;
+import org.jbehave.core.embedder.PerformableTree.PerformableScenario;
+import org.jbehave.core.embedder.PerformableTree.PerformableStory;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.reporters.DelegatingStoryReporter;
+import org.jbehave.core.reporters.StoryReporter;
+import org.junit.runner.Description;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JUnit descriptions of the stories that only list the scenarios, examples and steps of a story when it starts.
+ * Until then, each story is described by its name alone, so that the first story can start without every scenario
+ * of every story having been described, and stories that don't run are never described in full.
+ */
+class LazyStoryDescriptions {
+
+    private final JUnitDescriptionGenerator descriptionGenerator;
+    private final Map<String, UndescribedStory> undescribedStories = new ConcurrentHashMap<>();
+
+    LazyStoryDescriptions(JUnitDescriptionGenerator descriptionGenerator) {
+        this.descriptionGenerator = descriptionGenerator;
+    }
+
+    /**
+     * The descriptions of the stories in the tree that have scenarios to run, without their scenarios.
+     */
+    List<Description> createDescriptionFrom(PerformableTree performableTree) {
+        List<Description> storyDescriptions = new ArrayList<>();
+        for (PerformableStory performableStory : performableTree.getRoot().getStories()) {
+            if (hasScenariosToRun(performableStory)) {
+                Story story = performableStory.getStory();
+                Description storyDescription = Description.createSuiteDescription(
+                        descriptionGenerator.getJunitSafeString(story.getName()));
+                undescribedStories.put(story.getPath(), new UndescribedStory(performableStory, storyDescription));
+                storyDescriptions.add(storyDescription);
+            }
+        }
+        return storyDescriptions;
+    }
+
+    /**
+     * The stories the JUnit description generator describes: allowed stories with at least one allowed scenario.
+     */
+    private boolean hasScenariosToRun(PerformableStory performableStory) {
+        return performableStory.isAllowed()
+                && performableStory.getScenarios().stream().anyMatch(PerformableScenario::isAllowed);
+    }
+
+    /**
+     * Add the scenarios of the story to its description, the first time the story starts.
+     */
+    synchronized void describeInFull(Story story) {
+        UndescribedStory undescribedStory = undescribedStories.remove(story.getPath());
+        if (undescribedStory == null) {
+            return;
+        }
+        PerformableTree singleStoryTree = new PerformableTree();
+        singleStoryTree.getRoot().add(undescribedStory.performableStory);
+        for (Description fullDescription : descriptionGenerator.createDescriptionFrom(singleStoryTree)) {
+            for (Description child : fullDescription.getChildren()) {
+                undescribedStory.description.addChild(child);
+            }
+        }
+    }
+
+    /**
+     * Describes each story in full before the given reporter looks for its scenarios.
+     */
+    StoryReporter describingStoriesBefore(StoryReporter reporter) {
+        return new StoryDescribingReporter(reporter);
+    }
+
+    /**
+     * A named reporter class, as the reporters provided to JBehave are known by the name of their class.
+     */
+    private class StoryDescribingReporter extends DelegatingStoryReporter {
+
+        StoryDescribingReporter(StoryReporter reporter) {
+            super(reporter);
+        }
+
+        @Override
+        public void beforeStory(Story story, boolean givenStory) {
+            if (!givenStory) {
+                describeInFull(story);
+            }
+            super.beforeStory(story, givenStory);
+        }
+    }
+
+    private static class UndescribedStory {
+        private final PerformableStory performableStory;
+        private final Description description;
+
+        UndescribedStory(PerformableStory performableStory, Description description) {
+            this.performableStory = performableStory;
+            this.description = description;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import net.serenitybdd.jbehave.SerenityJBehaveSystemProperties;
 import net.serenitybdd.jbehave.SerenityStories;
 import net.serenitybdd.jbehave.annotations.Metafilter;
 import net.serenitybdd.jbehave.embedders.ExtendedEmbedder;
+import net.serenitybdd.jbehave.embedders.ReusablePerformableTree;
 import net.serenitybdd.jbehave.embedders.monitors.ReportingEmbedderMonitor;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.steps.StepEventBus;
@@ -23,10 +24,10 @@ import org.jbehave.core.embedder.PerformableTree;
 import org.jbehave.core.embedder.PerformableTree.RunContext;
 import org.jbehave.core.failures.BatchFailures;
 import org.jbehave.core.model.Story;
+import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.reporters.StoryReporterBuilder;
 import org.jbehave.core.steps.CandidateSteps;
 import org.jbehave.core.steps.InjectableStepsFactory;
-import org.jbehave.core.steps.NullStepMonitor;
 import org.jbehave.core.steps.StepMonitor;
 import org.junit.runner.Description;
 import org.junit.runner.Runner;
@@ -39,7 +40,6 @@ import java.lang.reflect.Method;
 import java.util.*;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class SerenityReportingRunner extends Runner {
 
@@ -48,6 +48,8 @@ public class SerenityReportingRunner extends Runner {
     private List<String> storyPaths;
     private Configuration configuration;
     private Description description;
+    private int describedTestCases;
+    private LazyStoryDescriptions lazyStoryDescriptions;
     List<CandidateSteps> candidateSteps;
 
     private final ConfigurableEmbedder configurableEmbedder;
@@ -55,7 +57,7 @@ public class SerenityReportingRunner extends Runner {
     private final EnvironmentVariables environmentVariables;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SerenityReportingRunner.class);
-    private boolean runningInMaven;
+    private BuildTool buildTool;
 
     @SuppressWarnings("unchecked")
     public SerenityReportingRunner(Class<? extends ConfigurableEmbedder> testClass) throws Throwable {
@@ -203,7 +205,17 @@ public class SerenityReportingRunner extends Runner {
     }
 
     private boolean isRunningInGradle() {
-        return Stream.of(new Exception().getStackTrace()).anyMatch(elt -> elt.getClassName().startsWith("org.gradle"));
+        return getBuildTool() == BuildTool.GRADLE;
+    }
+
+    /**
+     * The build tool running the stories, as configured in jbehave.build.tool or detected once per JVM.
+     */
+    public BuildTool getBuildTool() {
+        if (buildTool == null) {
+            buildTool = BuildTool.from(environmentVariables.getProperty(SerenityJBehaveSystemProperties.JBEHAVE_BUILD_TOOL.getName()));
+        }
+        return buildTool;
     }
 
     /**
@@ -220,27 +232,19 @@ public class SerenityReportingRunner extends Runner {
 
     List<CandidateSteps> getCandidateSteps() {
         if (candidateSteps == null) {
-            StepMonitor originalStepMonitor = createCandidateStepsWithNoMonitor();
-            createCandidateStepsWith(originalStepMonitor);
+            candidateSteps = buildCandidateSteps();
+            useStepMonitorIn(candidateSteps, getConfiguration().stepMonitor());
         }
         return candidateSteps;
     }
 
-    private void createCandidateStepsWith(StepMonitor stepMonitor) {
-        // reset step monitor and recreate candidate steps
-        getConfiguration().useStepMonitor(stepMonitor);
-        candidateSteps = buildCandidateSteps();
+    // The candidate steps may be shared with other runners, so the monitor is swapped rather than the steps rebuilt
+    private void useStepMonitorIn(List<CandidateSteps> candidateSteps, StepMonitor stepMonitor) {
         candidateSteps.forEach(
                 step -> step.configuration().useStepMonitor(stepMonitor)
         );
     }
 
-    private StepMonitor createCandidateStepsWithNoMonitor() {
-        StepMonitor usedStepMonitor = getConfiguration().stepMonitor();
-        createCandidateStepsWith(new NullStepMonitor());
-        return usedStepMonitor;
-    }
-
     private List<CandidateSteps> buildCandidateSteps() {
         List<CandidateSteps> candidateSteps;
 
@@ -260,8 +264,10 @@ public class SerenityReportingRunner extends Runner {
 
     private void addToStoryReporterFormats(JUnitScenarioReporter junitReporter) {
         StoryReporterBuilder storyReporterBuilder = getConfiguration().storyReporterBuilder();
+        StoryReporter reporter = (lazyStoryDescriptions != null)
+                ? lazyStoryDescriptions.describingStoriesBefore(junitReporter) : junitReporter;
         StoryReporterBuilder.ProvidedFormat junitReportFormat
-                = new StoryReporterBuilder.ProvidedFormat(junitReporter);
+                = new StoryReporterBuilder.ProvidedFormat(reporter);
         storyReporterBuilder.withFormats(junitReportFormat);
     }
 
@@ -272,13 +278,23 @@ public class SerenityReportingRunner extends Runner {
 
         addSuite(storyDescriptions, "BeforeStories");
         PerformableTree performableTree = createPerformableTree(candidateSteps, getStoryPaths());
-        storyDescriptions.addAll(descriptionGenerator.createDescriptionFrom(performableTree));
+        if (lazyDescriptions()) {
+            lazyStoryDescriptions = new LazyStoryDescriptions(descriptionGenerator);
+            storyDescriptions.addAll(lazyStoryDescriptions.createDescriptionFrom(performableTree));
+        } else {
+            storyDescriptions.addAll(descriptionGenerator.createDescriptionFrom(performableTree));
+        }
         addSuite(storyDescriptions, "AfterStories");
+        describedTestCases = descriptionGenerator.getTestCases();
 
         return storyDescriptions;
     }
 
     private int countStories() {
+        if (reusePerformableTree()) {
+            getDescriptions();
+            return describedTestCases + beforeAndAfterStorySteps();
+        }
         JUnitDescriptionGenerator descriptionGenerator = new JUnitDescriptionGenerator(getCandidateSteps(), getConfiguration());
         return descriptionGenerator.getTestCases() + beforeAndAfterStorySteps();
     }
@@ -290,6 +306,9 @@ public class SerenityReportingRunner extends Runner {
     private PerformableTree createPerformableTree(List<CandidateSteps> candidateSteps, List<String> storyPaths) {
         ExtendedEmbedder configuredEmbedder = this.getConfiguredEmbedder();
         configuredEmbedder.useMetaFilters(getMetaFilters());
+        if (reusePerformableTree() && !(configuredEmbedder.performableTree() instanceof ReusablePerformableTree)) {
+            configuredEmbedder.usePerformableTree(new ReusablePerformableTree());
+        }
         BatchFailures failures = new BatchFailures(configuredEmbedder.embedderControls().verboseFailures());
         PerformableTree performableTree = configuredEmbedder.performableTree();
         RunContext context = performableTree.newRunContext(getConfiguration(), candidateSteps,
@@ -360,11 +379,27 @@ public class SerenityReportingRunner extends Runner {
         return Lists.newArrayList(Splitter.on(Pattern.compile(",")).trimResults().omitEmptyStrings().split(metaFilters));
     }
 
+    /**
+     * Build the performable tree of the stories once, to describe them to JUnit, and then perform the same tree
+     * rather than building it again when the stories are run.
+     */
+    protected boolean reusePerformableTree() {
+        return environmentVariables.getPropertyAsBoolean(SerenityJBehaveSystemProperties.JBEHAVE_REUSE_PERFORMABLE_TREE.getName(), false);
+    }
+
+    /**
+     * Only describe the stories by name before they run, and add the descriptions of their scenarios, examples and
+     * steps when each story starts.
+     */
+    protected boolean lazyDescriptions() {
+        return environmentVariables.getPropertyAsBoolean(SerenityJBehaveSystemProperties.JBEHAVE_LAZY_DESCRIPTIONS.getName(), false);
+    }
+
     protected boolean getIgnoreFailuresInView() {
         return environmentVariables.getPropertyAsBoolean(SerenityJBehaveSystemProperties.IGNORE_FAILURES_IN_VIEW.getName(), true);
     }
 
     public boolean isRunningInMaven() {
-        return Stream.of(new Exception().getStackTrace()).anyMatch(elt -> elt.getClassName().contains("maven"));
+        return getBuildTool() == BuildTool.MAVEN;
     }
 }
@@ -0,0 +1,104 @@
+package net.serenitybdd.jbehave;
+
+import net.thucydides.core.configuration.WebDriverConfiguration;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.jbehave.core.ConfigurableEmbedder;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.parsers.RegexStoryParser;
+import org.jbehave.core.parsers.StoryParser;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenCachingParsedStories {
+
+    private static final String STORY = "Scenario: A scenario\nGiven a step\nThen another step";
+
+    private final AtomicInteger parsedStories = new AtomicInteger();
+
+    @After
+    public void clearCache() {
+        CachingStoryParser.clear();
+    }
+
+    @Test
+    public void should_share_parsed_stories_between_story_runners() {
+        Story story = parserFor(Locale.ENGLISH).parseStory(STORY, "stories/a_story.story");
+
+        assertThat(parserFor(Locale.ENGLISH).parseStory(STORY, "stories/a_story.story")).isSameAs(story);
+        assertThat(story.getScenarios().get(0).getSteps()).containsExactly("Given a step", "Then another step");
+        assertThat(parsedStories.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_parse_a_story_again_when_its_content_changes() {
+        StoryParser storyParser = parserFor(Locale.ENGLISH);
+        storyParser.parseStory(STORY, "stories/a_story.story");
+
+        Story changedStory = storyParser.parseStory(STORY + "\nThen a new step", "stories/a_story.story");
+
+        assertThat(changedStory.getScenarios().get(0).getSteps()).contains("Then a new step");
+        assertThat(parsedStories.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_not_share_stories_parsed_with_keywords_in_another_language() {
+        parserFor(Locale.ENGLISH).parseStory(STORY, "stories/a_story.story");
+        parserFor(Locale.GERMAN).parseStory(STORY, "stories/a_story.story");
+
+        assertThat(parsedStories.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_always_parse_stories_without_a_path() {
+        StoryParser storyParser = parserFor(Locale.ENGLISH);
+        storyParser.parseStory(STORY);
+        storyParser.parseStory(STORY);
+
+        assertThat(parsedStories.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_only_cache_parsed_stories_when_asked_to() {
+        MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+
+        assertThat(defaultConfigurationWith(environmentVariables).storyParser()).isNotInstanceOf(CachingStoryParser.class);
+
+        environmentVariables.setProperty(SerenityJBehaveSystemProperties.JBEHAVE_STORY_PARSE_CACHE.getName(), "true");
+
+        assertThat(defaultConfigurationWith(environmentVariables).storyParser()).isInstanceOf(CachingStoryParser.class);
+    }
+
+    private Configuration defaultConfigurationWith(MockEnvironmentVariables environmentVariables) {
+        return SerenityJBehave.defaultConfiguration(new WebDriverConfiguration(environmentVariables),
+                Collections.emptyList(), new ConfigurableEmbedder() {
+                    @Override
+                    public void run() {
+                    }
+                });
+    }
+
+    private StoryParser parserFor(Locale locale) {
+        LocalizedKeywords keywords = new LocalizedKeywords(locale);
+        return new CachingStoryParser(new CountingStoryParser(keywords), keywords);
+    }
+
+    private class CountingStoryParser extends RegexStoryParser {
+        CountingStoryParser(LocalizedKeywords keywords) {
+            super(keywords);
+        }
+
+        @Override
+        public Story parseStory(String storyAsText, String storyPath) {
+            parsedStories.incrementAndGet();
+            return super.parseStory(storyAsText, storyPath);
+        }
+    }
+}
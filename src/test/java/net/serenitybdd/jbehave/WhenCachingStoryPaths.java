@@ -0,0 +1,103 @@
+package net.serenitybdd.jbehave;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenCachingStoryPaths {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final StoryPathCache storyPathCache = StoryPathCache.instance();
+    private final AtomicInteger searches = new AtomicInteger();
+    private final List<String> pathExpressions = Collections.singletonList("**/*.story");
+
+    @After
+    public void clearCache() {
+        storyPathCache.clear();
+    }
+
+    @Test
+    public void should_reuse_the_story_paths_found_for_the_same_classpath_roots_and_expressions() throws IOException {
+        File storyRoot = temporaryFolder.newFolder("stories");
+        ClassLoader classLoader = classLoaderFor(storyRoot);
+        Set<URL> classpathRoots = Collections.singleton(storyRoot.toURI().toURL());
+
+        storyPathsIn(classLoader, classpathRoots);
+        List<String> storyPaths = storyPathsIn(classLoader, classpathRoots);
+
+        assertThat(storyPaths).containsExactly("search 1");
+        assertThat(searches.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_look_for_the_story_paths_again_when_a_story_is_added() throws Exception {
+        File storyRoot = temporaryFolder.newFolder("stories");
+        File featureDirectory = temporaryFolder.newFolder("stories", "feature");
+        ClassLoader classLoader = classLoaderFor(storyRoot);
+        Set<URL> classpathRoots = Collections.singleton(storyRoot.toURI().toURL());
+        storyPathsIn(classLoader, classpathRoots);
+
+        assertThat(new File(featureDirectory, "new.story").createNewFile()).isTrue();
+
+        assertThat(eventuallySearchedAgain(classLoader, classpathRoots)).isTrue();
+    }
+
+    @Test
+    public void should_look_for_the_story_paths_again_when_a_jar_on_the_classpath_changes() throws Exception {
+        File jar = temporaryFolder.newFile("stories.jar");
+        ClassLoader classLoader = classLoaderFor(jar);
+        Set<URL> classpathRoots = Collections.singleton(jar.toURI().toURL());
+        storyPathsIn(classLoader, classpathRoots);
+
+        assertThat(jar.setLastModified(jar.lastModified() - 10000)).isTrue();
+        storyPathsIn(classLoader, classpathRoots);
+
+        assertThat(searches.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_not_share_story_paths_between_class_loaders() throws IOException {
+        File storyRoot = temporaryFolder.newFolder("stories");
+        Set<URL> classpathRoots = Collections.singleton(storyRoot.toURI().toURL());
+
+        storyPathsIn(classLoaderFor(storyRoot), classpathRoots);
+        storyPathsIn(classLoaderFor(storyRoot), classpathRoots);
+
+        assertThat(searches.get()).isEqualTo(2);
+    }
+
+    private boolean eventuallySearchedAgain(ClassLoader classLoader, Set<URL> classpathRoots) throws InterruptedException {
+        // File system events are delivered asynchronously
+        for (int attempt = 0; attempt < 100; attempt++) {
+            storyPathsIn(classLoader, classpathRoots);
+            if (searches.get() > 1) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+
+    private List<String> storyPathsIn(ClassLoader classLoader, Set<URL> classpathRoots) {
+        return storyPathCache.storyPathsFor(classLoader, pathExpressions, classpathRoots,
+                () -> Collections.singletonList("search " + searches.incrementAndGet()));
+    }
+
+    private ClassLoader classLoaderFor(File classpathRoot) throws IOException {
+        return new URLClassLoader(new URL[]{classpathRoot.toURI().toURL()}, null);
+    }
+}
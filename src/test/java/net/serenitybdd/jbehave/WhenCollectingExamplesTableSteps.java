@@ -0,0 +1,163 @@
+package net.serenitybdd.jbehave;
+
+import org.jbehave.core.annotations.Given;
+import org.jbehave.core.annotations.Then;
+import org.jbehave.core.annotations.When;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.StepPattern;
+import org.jbehave.core.steps.*;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenCollectingExamplesTableSteps {
+
+    public static class PaymentSteps {
+        final List<String> payments = new ArrayList<>();
+
+        @Given("I have $amount euros")
+        public void anAmount(String amount) {}
+
+        @When("I pay <payment> euros")
+        public void aPayment(@org.jbehave.core.annotations.Named("payment") String payment) {
+            payments.add(payment);
+        }
+
+        @Then("I have <balance> euros left")
+        public void aBalance(@org.jbehave.core.annotations.Named("balance") String balance) {}
+    }
+
+    private final Configuration configuration = new MostUsefulConfiguration();
+    private final PaymentSteps paymentSteps = new PaymentSteps();
+    private final List<CandidateSteps> candidateSteps = new InstanceStepsFactory(configuration, paymentSteps).createCandidateSteps();
+
+    private final Scenario scenario = new Scenario("Paying", Meta.EMPTY, GivenStories.EMPTY,
+            new ExamplesTable("|payment|balance|\n|10|90|\n|20|80|"),
+            Arrays.asList("Given I have 100 euros", "When I pay <payment> euros", "Then I have <balance> euros left",
+                    "!-- a comment", "Then something unexpected happens"));
+
+    @Test
+    public void should_match_the_steps_of_a_scenario_once_for_every_row() {
+        CountingStepFinder stepFinder = new CountingStepFinder();
+        StepCollector stepCollector = new ExamplesTableStepCollector(stepFinder, configuration.keywords());
+
+        for (Map<String, String> row : scenario.getExamplesTable().getRows()) {
+            stepCollector.collectScenarioSteps(candidateSteps, scenario, row);
+        }
+
+        assertThat(stepFinder.prioritisedSteps.get()).isEqualTo(scenario.getSteps().size());
+    }
+
+    @Test
+    public void should_collect_the_same_steps_as_the_default_step_collector() {
+        StepCollector stepCollector = new ExamplesTableStepCollector(new StepFinder(), configuration.keywords());
+        StepCollector defaultStepCollector = new MarkUnmatchedStepsAsPending(new StepFinder(), configuration.keywords());
+
+        for (Map<String, String> row : scenario.getExamplesTable().getRows()) {
+            assertThat(descriptionsOf(stepCollector.collectScenarioSteps(candidateSteps, scenario, row)))
+                    .isEqualTo(descriptionsOf(defaultStepCollector.collectScenarioSteps(candidateSteps, scenario, row)));
+        }
+    }
+
+    @Test
+    public void should_use_the_parameters_of_each_row() {
+        StepCollector stepCollector = new ExamplesTableStepCollector(new StepFinder(), configuration.keywords());
+
+        for (Map<String, String> row : scenario.getExamplesTable().getRows()) {
+            for (Step step : stepCollector.collectScenarioSteps(candidateSteps, scenario, row)) {
+                step.perform(null);
+            }
+        }
+
+        assertThat(paymentSteps.payments).containsExactly("10", "20");
+    }
+
+    @Test
+    public void should_report_the_matched_steps_of_every_row_to_the_step_monitor_of_serenity_candidates() {
+        List<CandidateSteps> serenityCandidateSteps = serenityCandidateSteps();
+        StepCollector stepCollector = new ExamplesTableStepCollector(new StepFinder(), configuration.keywords());
+
+        for (Map<String, String> row : scenario.getExamplesTable().getRows()) {
+            MatchingStepMonitor stepMonitor = new MatchingStepMonitor();
+            stepCollector.collectScenarioSteps(serenityCandidateSteps, scenario, row, stepMonitor);
+
+            assertThat(stepMonitor.matchedSteps).containsExactly(
+                    "Given I have 100 euros", "When I pay <payment> euros", "Then I have <balance> euros left");
+        }
+    }
+
+    @Test
+    public void should_report_matched_steps_only_to_the_step_monitor_of_the_thread_collecting_them() throws Exception {
+        List<CandidateSteps> serenityCandidateSteps = serenityCandidateSteps();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<String>>> matchedSteps = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                matchedSteps.add(executor.submit(() -> {
+                    StepCollector stepCollector = new ExamplesTableStepCollector(new StepFinder(), configuration.keywords());
+                    MatchingStepMonitor stepMonitor = new MatchingStepMonitor();
+                    for (int run = 0; run < 100; run++) {
+                        for (Map<String, String> row : scenario.getExamplesTable().getRows()) {
+                            stepCollector.collectScenarioSteps(serenityCandidateSteps, scenario, row, stepMonitor);
+                        }
+                    }
+                    return stepMonitor.matchedSteps;
+                }));
+            }
+            for (Future<List<String>> threadMatchedSteps : matchedSteps) {
+                assertThat(threadMatchedSteps.get()).hasSize(100 * 2 * 3);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private List<CandidateSteps> serenityCandidateSteps() {
+        return candidateSteps.stream().map(SerenityCandidateSteps::new).collect(Collectors.toList());
+    }
+
+    private List<String> descriptionsOf(List<Step> steps) {
+        List<String> descriptions = new ArrayList<>();
+        for (Step step : steps) {
+            descriptions.add(step.getClass().getSimpleName() + ":" + step.asString(configuration.keywords()));
+        }
+        return descriptions;
+    }
+
+    private static class MatchingStepMonitor extends NullStepMonitor {
+        private final List<String> matchedSteps = new ArrayList<>();
+
+        @Override
+        public void stepMatchesPattern(String step, boolean matches, StepPattern pattern, Method method, Object stepsInstance) {
+            if (matches) {
+                matchedSteps.add(step);
+            }
+        }
+    }
+
+    private static class CountingStepFinder extends StepFinder {
+        private final AtomicInteger prioritisedSteps = new AtomicInteger();
+
+        @Override
+        public List<StepCandidate> prioritise(String stepAsText, List<StepCandidate> candidates) {
+            prioritisedSteps.incrementAndGet();
+            return super.prioritise(stepAsText, candidates);
+        }
+    }
+}
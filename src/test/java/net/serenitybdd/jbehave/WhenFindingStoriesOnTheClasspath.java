@@ -1,20 +1,40 @@
 package net.serenitybdd.jbehave;
 
 import net.thucydides.core.util.EnvironmentVariables;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.jbehave.core.io.StoryFinder;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+import static net.serenitybdd.jbehave.SerenityJBehaveSystemProperties.JBEHAVE_STORY_RESOURCE_INDEX;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
 
 public class WhenFindingStoriesOnTheClasspath {
 
     @Mock
     EnvironmentVariables environmentVariables;
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Before
     public void setup() {
         MockitoAnnotations.initMocks(this);
@@ -40,4 +60,107 @@ public class WhenFindingStoriesOnTheClasspath {
         Set<String> storyElements = finder.findAllElements();
         assertThat(storyElements).contains("**/samples/MoreBehavior.story");
     }
+
+    @Test
+    public void should_find_the_same_stories_when_the_story_resources_are_indexed() {
+        when(environmentVariables.getPropertyAsBoolean(JBEHAVE_STORY_RESOURCE_INDEX.getName(), false)).thenReturn(true);
+        String storyNames = "stories/samples/*.story;stories/samples/SomeBehavior.story;samples/MoreBehavior.story";
+
+        StoryPathFinder indexedFinder = new StoryPathFinder(environmentVariables, storyNames);
+
+        assertThat(indexedFinder.findAllElements()).containsOnly("**/stories/samples/*.story",
+                "stories/samples/SomeBehavior.story", "**/samples/MoreBehavior.story");
+    }
+
+    @Test
+    public void should_find_the_same_stories_for_comma_separated_expressions_as_when_each_expression_is_looked_up_alone()
+            throws IOException {
+        File storyRoot = temporaryFolder.getRoot();
+        for (String story : Arrays.asList("a/one.story", "a/two.story", "b/three.story", "b/nested/four.story",
+                                          "c/five.txt", "c/six.story", "GivenSomePrecondition.story")) {
+            Path storyFile = storyRoot.toPath().resolve(story);
+            Files.createDirectories(storyFile.getParent());
+            Files.createFile(storyFile);
+        }
+        String storyPath = "a/*.story,b/**/*.story;**/*.txt,**/Given*.story";
+        SerenityStories stories = new SerenityStories(new MockEnvironmentVariables()) {
+            @Override
+            protected String getStoryPath() {
+                return storyPath;
+            }
+
+            @Override
+            public ClassLoader getClassLoader() {
+                try {
+                    return new URLClassLoader(new URL[]{storyRoot.toURI().toURL()}, null);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+
+        assertThat(stories.storyPaths())
+                .isEqualTo(storyPathsFoundOneExpressionAtATime(storyRoot, storyPath))
+                .containsExactly("a/one.story", "a/two.story", "b/nested/four.story", "b/three.story", "c/five.txt");
+    }
+
+    @Test
+    public void should_find_a_story_added_after_the_story_paths_were_cached() throws Exception {
+        File storyRoot = temporaryFolder.newFolder("classes");
+        assertThat(new File(storyRoot, "stories").mkdir()).isTrue();
+        MockEnvironmentVariables cachingStoryPaths = new MockEnvironmentVariables();
+        cachingStoryPaths.setProperty(SerenityJBehaveSystemProperties.JBEHAVE_STORY_PATH_CACHE.getName(), "true");
+        ClassLoader classLoader = new URLClassLoader(new URL[]{storyRoot.toURI().toURL()}, null);
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(classLoader);
+        try {
+            assertThat(storiesCalled("new.story", cachingStoryPaths)).isEqualTo("**/new.story");
+
+            assertThat(new File(storyRoot, "stories/new.story").createNewFile()).isTrue();
+
+            String storyPath = storiesCalled("new.story", cachingStoryPaths);
+            // File system events are delivered asynchronously
+            for (int attempt = 0; attempt < 100 && !storyPath.equals("stories/new.story"); attempt++) {
+                Thread.sleep(100);
+                storyPath = storiesCalled("new.story", cachingStoryPaths);
+            }
+            assertThat(storyPath).isEqualTo("stories/new.story");
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+            StoryPathCache.instance().clear();
+        }
+    }
+
+    private String storiesCalled(String storyNames, EnvironmentVariables environmentVariables) {
+        SerenityStories stories = new SerenityStories(environmentVariables);
+        stories.findStoriesCalled(storyNames);
+        return stories.getStoryPath();
+    }
+
+    /**
+     * How the story paths were found before every expression was matched in a single scan of each classpath root.
+     */
+    private List<String> storyPathsFoundOneExpressionAtATime(File storyRoot, String storyPath) throws IOException {
+        StoryFinder storyFinder = new StoryFinder();
+        Set<String> storyPaths = new HashSet<>();
+        for (String pathExpression : storyPath.split(";")) {
+            storyPaths.addAll(storyFinder.findPaths(storyRoot.toURI().toURL(), pathExpression, ""));
+        }
+        storyPaths.removeIf(path -> path.startsWith("Given"));
+        List<String> sortedPaths = new ArrayList<>(SerenityStories.removeDuplicatesFrom(storyPaths));
+        Collections.sort(sortedPaths);
+        return sortedPaths;
+    }
+
+    @Test
+    public void should_remove_story_paths_that_are_the_end_of_a_longer_path() {
+        Set<String> storyPaths = new HashSet<>(Arrays.asList(
+                "stories/samples/SomeBehavior.story", "samples/SomeBehavior.story", "SomeBehavior.story",
+                "build\\resources\\stories\\MoreBehavior.story", "stories\\MoreBehavior.story",
+                "OtherSomeBehavior.story", "amples/SomeBehavior.story"));
+
+        assertThat(SerenityStories.removeDuplicatesFrom(storyPaths)).containsOnly(
+                "stories/samples/SomeBehavior.story", "build\\resources\\stories\\MoreBehavior.story",
+                "OtherSomeBehavior.story", "amples/SomeBehavior.story");
+    }
 }
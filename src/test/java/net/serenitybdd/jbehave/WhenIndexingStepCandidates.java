@@ -0,0 +1,149 @@
+package net.serenitybdd.jbehave;
+
+import org.jbehave.core.annotations.Given;
+import org.jbehave.core.annotations.Then;
+import org.jbehave.core.annotations.When;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.steps.InstanceStepsFactory;
+import org.jbehave.core.steps.StepCandidate;
+import org.jbehave.core.steps.StepFinder;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenIndexingStepCandidates {
+
+    public static class SampleSteps {
+        @Given("I have a date $date")
+        public void aDate(String date) {}
+
+        @Given("I have a list of dates $dates")
+        public void someDates(String dates) {}
+
+        @Given("$amount euros are in my account")
+        public void anAmount(String amount) {}
+
+        @Given("I am a {happy|sad} user")
+        public void aMood() {}
+
+        @When("I pay $amount euros")
+        public void aPayment(String amount) {}
+
+        @When("I pay the bill")
+        public void aBillPayment() {}
+
+        @Then(value = "I have $amount euros left", priority = 1)
+        public void aBalance(String amount) {}
+
+        @Then("I have nothing left")
+        public void anEmptyBalance() {}
+    }
+
+    public static class AlternativeSteps {
+        @When("I pay|I spend $amount")
+        public void anExpense(String amount) {}
+
+        @When("I pay nothing")
+        public void noExpense() {}
+    }
+
+    private final Configuration configuration = new MostUsefulConfiguration();
+    private final List<StepCandidate> candidates = new InstanceStepsFactory(configuration, new SampleSteps())
+            .createCandidateSteps().get(0).listCandidates();
+
+    @Test
+    public void should_only_return_the_candidates_that_share_the_literal_prefix_of_the_step_or_start_with_a_parameter() {
+        List<StepCandidate> prioritised = new IndexedStepFinder(configuration).prioritise("Given I have a date 2018-01-01", copyOf(candidates));
+
+        assertThat(patternsOf(prioritised)).containsExactlyInAnyOrder("I have a date $date", "$amount euros are in my account");
+    }
+
+    @Test
+    public void should_keep_candidates_starting_with_a_parameter() {
+        List<StepCandidate> prioritised = new IndexedStepFinder(configuration).prioritise("Given 100 euros are in my account", copyOf(candidates));
+
+        assertThat(patternsOf(prioritised)).containsExactly("$amount euros are in my account");
+    }
+
+    @Test
+    public void should_tolerate_extra_whitespace_like_the_step_patterns_do() {
+        List<StepCandidate> prioritised = new IndexedStepFinder(configuration).prioritise("When I  pay\tthe bill", copyOf(candidates));
+
+        assertThat(patternsOf(prioritised)).containsExactlyInAnyOrder("I pay $amount euros", "I pay the bill");
+    }
+
+    @Test
+    public void should_keep_the_priority_order_of_the_candidates() {
+        List<StepCandidate> prioritised = new IndexedStepFinder(configuration).prioritise("Then I have nothing left", copyOf(candidates));
+
+        assertThat(patternsOf(prioritised)).containsExactly("I have $amount euros left", "I have nothing left");
+    }
+
+    @Test
+    public void should_keep_candidates_whose_pattern_has_alternatives() {
+        List<StepCandidate> alternativeCandidates = new InstanceStepsFactory(configuration, new AlternativeSteps())
+                .createCandidateSteps().get(0).listCandidates();
+
+        List<StepCandidate> prioritised = new IndexedStepFinder(configuration).prioritise("When I spend 5", copyOf(alternativeCandidates));
+
+        assertThat(firstMatchIn(prioritised, "When I spend 5"))
+                .isEqualTo(firstMatchIn(new StepFinder().prioritise("When I spend 5", copyOf(alternativeCandidates)), "When I spend 5"))
+                .contains("I pay|I spend $amount");
+    }
+
+    @Test
+    public void should_consider_candidates_of_every_type_for_and_steps() {
+        List<StepCandidate> prioritised = new IndexedStepFinder(configuration).prioritise("And I have a date 2018-01-01", copyOf(candidates));
+
+        assertThat(patternsOf(prioritised)).contains("I have a date $date", "I have $amount euros left");
+    }
+
+    @Test
+    public void should_match_the_same_candidates_as_the_default_step_finder() {
+        IndexedStepFinder indexedStepFinder = new IndexedStepFinder(configuration);
+        StepFinder stepFinder = new StepFinder();
+        for (String step : Arrays.asList("Given I have a date today", "Given I have a list of dates today,tomorrow",
+                "Given 5 euros are in my account", "Given I am a sad user", "Given I am an angry user",
+                "When I pay 10 euros", "When I pay the bill", "Then I have 5 euros left", "Then I have nothing left",
+                "Then I have a date today", "When something unknown happens")) {
+            assertThat(firstMatchIn(indexedStepFinder.prioritise(step, copyOf(candidates)), step))
+                    .as(step)
+                    .isEqualTo(firstMatchIn(stepFinder.prioritise(step, copyOf(candidates)), step));
+        }
+    }
+
+    @Test
+    public void should_reuse_the_index_for_new_candidates_with_the_same_patterns() {
+        IndexedStepFinder indexedStepFinder = new IndexedStepFinder(configuration);
+        indexedStepFinder.prioritise("When I pay the bill", copyOf(candidates));
+        List<StepCandidate> newCandidates = new InstanceStepsFactory(configuration, new SampleSteps())
+                .createCandidateSteps().get(0).listCandidates();
+
+        List<StepCandidate> prioritised = indexedStepFinder.prioritise("When I pay the bill", copyOf(newCandidates));
+
+        assertThat(prioritised).allMatch(newCandidates::contains);
+    }
+
+    private String firstMatchIn(List<StepCandidate> prioritised, String step) {
+        return prioritised.stream().filter(candidate -> candidate.matches(step))
+                .map(StepCandidate::toString)
+                .findFirst().orElse("none");
+    }
+
+    private List<StepCandidate> copyOf(List<StepCandidate> candidates) {
+        return new ArrayList<>(candidates);
+    }
+
+    private List<String> patternsOf(List<StepCandidate> candidates) {
+        List<String> patterns = new ArrayList<>();
+        for (StepCandidate candidate : candidates) {
+            patterns.add(candidate.getPatternAsString());
+        }
+        return patterns;
+    }
+}
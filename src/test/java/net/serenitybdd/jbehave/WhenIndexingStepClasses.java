@@ -0,0 +1,74 @@
+package net.serenitybdd.jbehave;
+
+import org.jbehave.core.annotations.Given;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenIndexingStepClasses {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final ClassFinder classFinder = ClassFinder.loadClasses();
+
+    @Test
+    public void should_record_the_step_classes_found_in_each_classpath_entry() throws IOException {
+        Path indexFile = temporaryFolder.getRoot().toPath().resolve("first/step-classes.index");
+
+        List<Class<?>> stepClasses = StepClassIndex.storedIn(indexFile)
+                .stepClassesIn("net.serenitybdd.jbehave.steps", classFinder, WhenIndexingStepClasses::hasGivenSteps);
+
+        assertThat(stepClasses).contains(net.serenitybdd.jbehave.steps.ParameterizedSteps.class);
+        assertThat(new String(Files.readAllBytes(indexFile), "UTF-8")).contains("net.serenitybdd.jbehave.steps.ParameterizedSteps");
+    }
+
+    @Test
+    public void should_serve_unchanged_classpath_entries_from_the_index() {
+        Path indexFile = temporaryFolder.getRoot().toPath().resolve("second/step-classes.index");
+        StepClassIndex index = StepClassIndex.storedIn(indexFile);
+
+        List<Class<?>> scannedClasses = index.stepClassesIn("net.serenitybdd.jbehave.steps", classFinder, WhenIndexingStepClasses::hasGivenSteps);
+        List<Class<?>> indexedClasses = index.stepClassesIn("net.serenitybdd.jbehave.steps", classFinder, candidate -> {
+            throw new AssertionError("Unchanged classpath entries should not be scanned again");
+        });
+
+        assertThat(indexedClasses).isEqualTo(scannedClasses);
+    }
+
+    @Test
+    public void should_scan_everything_again_when_the_index_is_rebuilt() {
+        Path indexFile = temporaryFolder.getRoot().toPath().resolve("third/step-classes.index");
+        StepClassIndex index = StepClassIndex.storedIn(indexFile);
+        index.stepClassesIn("net.serenitybdd.jbehave.steps", classFinder, WhenIndexingStepClasses::hasGivenSteps);
+
+        index.rebuild();
+
+        assertThat(indexFile).doesNotExist();
+        List<Class<?>> stepClasses = index.stepClassesIn("net.serenitybdd.jbehave.steps", classFinder, candidate -> false);
+        assertThat(stepClasses).isEmpty();
+    }
+
+    @Test
+    public void should_fingerprint_a_directory_by_its_contents() throws IOException {
+        Path directory = temporaryFolder.newFolder("classes").toPath();
+        String emptyFingerprint = StepClassIndex.fingerprintOf(directory.toUri());
+
+        Files.write(directory.resolve("SomeSteps.class"), new byte[]{1, 2, 3});
+
+        assertThat(StepClassIndex.fingerprintOf(directory.toUri())).isNotEqualTo(emptyFingerprint);
+        assertThat(StepClassIndex.fingerprintOf(directory.toUri())).isEqualTo(StepClassIndex.fingerprintOf(directory.toUri()));
+    }
+
+    private static boolean hasGivenSteps(Class<?> candidateClass) {
+        return Arrays.stream(candidateClass.getMethods()).anyMatch(method -> method.isAnnotationPresent(Given.class));
+    }
+}
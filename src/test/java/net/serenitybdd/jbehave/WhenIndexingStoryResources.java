@@ -0,0 +1,94 @@
+package net.serenitybdd.jbehave;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenIndexingStoryResources {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File storyDirectory;
+    private File storyJar;
+
+    @Before
+    public void createClasspathRoots() throws IOException {
+        storyDirectory = temporaryFolder.newFolder("resources");
+        File stories = new File(storyDirectory, "stories");
+        assertThat(stories.mkdir()).isTrue();
+        Files.write(new File(stories, "a_story.story").toPath(), "Scenario: a".getBytes(StandardCharsets.UTF_8));
+
+        storyJar = temporaryFolder.newFile("stories.jar");
+        try (JarOutputStream jar = new JarOutputStream(new FileOutputStream(storyJar))) {
+            jar.putNextEntry(new JarEntry("stories/"));
+            jar.putNextEntry(new JarEntry("stories/a_story.story"));
+            jar.putNextEntry(new JarEntry("stories/another_story.story"));
+            jar.closeEntry();
+        }
+    }
+
+    @Test
+    public void should_find_the_same_stories_as_the_class_loader() throws IOException {
+        ClassLoader classLoader = classLoaderFor(storyDirectory, storyJar);
+        StoryResourceIndex index = StoryResourceIndex.forClassLoader(classLoader);
+
+        for (String storyName : new String[]{"stories/a_story.story", "stories/another_story.story",
+                "stories/missing.story", "/stories/a_story.story", "a_story.story"}) {
+            assertThat(index.getResource(storyName)).isEqualTo(Optional.ofNullable(classLoader.getResource(storyName)));
+        }
+    }
+
+    @Test
+    public void should_take_stories_from_the_first_classpath_root_they_appear_in() throws IOException {
+        StoryResourceIndex index = StoryResourceIndex.forClassLoader(classLoaderFor(storyJar, storyDirectory));
+
+        assertThat(index.getResource("stories/a_story.story").get().getProtocol()).isEqualTo("jar");
+    }
+
+    @Test
+    public void should_find_stories_on_the_class_path_of_a_manifest_only_jar() throws IOException {
+        File launcherJar = temporaryFolder.newFile("launcher.jar");
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, "resources/ stories.jar");
+        new JarOutputStream(new FileOutputStream(launcherJar), manifest).close();
+
+        StoryResourceIndex index = StoryResourceIndex.forClassLoader(classLoaderFor(launcherJar));
+
+        assertThat(index.getResource("stories/a_story.story").get().getProtocol()).isEqualTo("file");
+        assertThat(index.getResource("stories/another_story.story")).isPresent();
+    }
+
+    @Test
+    public void should_share_the_index_of_a_class_loader() throws IOException {
+        ClassLoader classLoader = classLoaderFor(storyDirectory);
+
+        assertThat(StoryResourceIndex.sharedFor(classLoader)).isSameAs(StoryResourceIndex.sharedFor(classLoader));
+        assertThat(StoryResourceIndex.sharedFor(classLoader)).isNotSameAs(StoryResourceIndex.sharedFor(classLoaderFor(storyJar)));
+    }
+
+    private ClassLoader classLoaderFor(File... classpathRoots) throws IOException {
+        URL[] urls = new URL[classpathRoots.length];
+        for (int i = 0; i < classpathRoots.length; i++) {
+            urls[i] = classpathRoots[i].toURI().toURL();
+        }
+        return new URLClassLoader(urls, null);
+    }
+}
@@ -0,0 +1,106 @@
+package net.serenitybdd.jbehave;
+
+import org.jbehave.core.annotations.Given;
+import org.jbehave.core.annotations.Then;
+import org.jbehave.core.annotations.When;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.model.StepPattern;
+import org.jbehave.core.steps.CandidateSteps;
+import org.jbehave.core.steps.InstanceStepsFactory;
+import org.jbehave.core.steps.NullStepMonitor;
+import org.jbehave.core.steps.StepCandidate;
+import org.jbehave.core.steps.StepType;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenListingSerenityCandidateSteps {
+
+    public static class SampleSteps {
+        final List<String> amounts = new ArrayList<>();
+
+        @Given("I have $amount euros")
+        public void anAmount(String amount) {
+            amounts.add(amount);
+        }
+
+        @When("I pay $amount euros")
+        public void aPayment(String amount) {}
+
+        @Then("I have $amount euros left")
+        public void aBalance(String amount) {}
+    }
+
+    private final Configuration configuration = new MostUsefulConfiguration();
+    private final SampleSteps sampleSteps = new SampleSteps();
+    private final CandidateSteps candidateSteps = new InstanceStepsFactory(configuration, sampleSteps)
+            .createCandidateSteps().get(0);
+
+    @Test
+    public void should_wrap_the_candidates_only_once() {
+        SerenityCandidateSteps serenityCandidateSteps = new SerenityCandidateSteps(candidateSteps);
+
+        assertThat(serenityCandidateSteps.listCandidates()).isSameAs(serenityCandidateSteps.listCandidates());
+    }
+
+    @Test
+    public void should_keep_the_order_of_the_candidates() {
+        List<StepCandidate> candidates = new SerenityCandidateSteps(candidateSteps).listCandidates();
+
+        assertThat(candidates).allMatch(candidate -> candidate instanceof SerenityStepCandidate);
+        assertThat(patternsOf(candidates)).isEqualTo(patternsOf(candidateSteps.listCandidates()));
+    }
+
+    @Test
+    public void should_use_the_current_step_monitor_of_the_configuration_whenever_the_candidates_are_listed() {
+        SerenityCandidateSteps serenityCandidateSteps = new SerenityCandidateSteps(candidateSteps);
+        serenityCandidateSteps.listCandidates();
+        MatchingStepMonitor stepMonitor = new MatchingStepMonitor();
+        configuration.useStepMonitor(stepMonitor);
+
+        for (StepCandidate candidate : serenityCandidateSteps.listCandidates()) {
+            candidate.matches("Given I have 100 euros");
+        }
+
+        assertThat(stepMonitor.matchedSteps).containsExactly("Given I have 100 euros");
+    }
+
+    @Test
+    public void should_use_the_current_dry_run_setting_of_the_configuration_whenever_the_candidates_are_listed() {
+        SerenityCandidateSteps serenityCandidateSteps = new SerenityCandidateSteps(candidateSteps);
+        serenityCandidateSteps.listCandidates();
+        configuration.storyControls().doDryRun(true);
+
+        StepCandidate givenStep = serenityCandidateSteps.listCandidates().stream()
+                .filter(candidate -> candidate.getStepType() == StepType.GIVEN)
+                .findFirst().get();
+        givenStep.createMatchedStep("Given I have 100 euros", Collections.<String, String>emptyMap()).perform(null);
+
+        assertThat(sampleSteps.amounts).isEmpty();
+    }
+
+    private static class MatchingStepMonitor extends NullStepMonitor {
+        private final List<String> matchedSteps = new ArrayList<>();
+
+        @Override
+        public void stepMatchesPattern(String step, boolean matches, StepPattern pattern, Method method, Object stepsInstance) {
+            if (matches) {
+                matchedSteps.add(step);
+            }
+        }
+    }
+
+    private List<String> patternsOf(List<StepCandidate> candidates) {
+        List<String> patterns = new ArrayList<>();
+        for (StepCandidate candidate : candidates) {
+            patterns.add(candidate.getStepType() + " " + candidate.getPatternAsString());
+        }
+        return patterns;
+    }
+}
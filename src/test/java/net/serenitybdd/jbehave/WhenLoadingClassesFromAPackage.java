@@ -1,20 +1,54 @@
 package net.serenitybdd.jbehave;
 
+import com.google.common.collect.ImmutableList;
+import org.apache.commons.io.IOUtils;
 import org.jbehave.core.annotations.Given;
 import org.junit.Ignore;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reflections.Reflections;
+import org.reflections.scanners.MethodAnnotationsScanner;
+import org.reflections.serializers.JsonSerializer;
 
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
 import static org.hamcrest.core.IsNot.not;
 
 public class WhenLoadingClassesFromAPackage {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void shouldLoadAllClassesInAPackage() {
         List<Class<?>> classes = ClassFinder.loadClasses().fromPackage("net.serenitybdd.jbehave.pages");
@@ -92,4 +126,172 @@ public class WhenLoadingClassesFromAPackage {
         List<String> classnames = classes.stream().map(Class::getName).collect(Collectors.toList());
         assertThat(classnames, hasItem("junit.framework.Assert"));
     }
+
+    @Test
+    public void shouldOnlyLoadClassesThatReferToJBehaveAnnotationsWhenFilteringOnBytecode() {
+        List<Class<?>> classes = ClassFinder.loadClasses().thatMayContainJBehaveSteps().fromPackage("net.serenitybdd.jbehave.steps");
+        List<String> classnames = classes.stream().map(Class::getName).collect(Collectors.toList());
+        assertThat(classnames, hasItem("net.serenitybdd.jbehave.steps.ParameterizedSteps"));
+        assertThat(classnames, not(hasItem("net.serenitybdd.jbehave.steps.WidgetService")));
+    }
+
+    @Test
+    public void shouldLoadClassesThatInheritJBehaveStepsWhenFilteringOnBytecode() {
+        List<Class<?>> classes = ClassFinder.loadClasses().thatMayContainJBehaveSteps().fromPackage("net.serenitybdd.jbehave.steps.inherited");
+        List<String> classnames = classes.stream().map(Class::getName).collect(Collectors.toList());
+        assertThat(classnames, hasItem("net.serenitybdd.jbehave.steps.inherited.InheritingSteps"));
+    }
+
+    @Test
+    public void shouldSkipClassesInADependencyJarThatDoNotReferToJBehaveAnnotations() {
+        List<Class<?>> classes = ClassFinder.loadClasses().thatMayContainJBehaveSteps().fromPackage("org.junit.runners");
+        assertThat(classes.size(), is(0));
+    }
+
+    @Test
+    public void shouldFindTheSameClassesInTheSameOrderWhenScanningInParallel() {
+        List<Class<?>> sequentialClasses = ClassFinder.loadClasses().fromPackage("net.serenitybdd.jbehave");
+        List<Class<?>> parallelClasses = ClassFinder.loadClasses().inParallel(4).fromPackage("net.serenitybdd.jbehave");
+        assertThat(parallelClasses, is(sequentialClasses));
+    }
+
+    @Test
+    public void shouldFindTheSameClassesInDependencyJarsWhenScanningInParallel() throws Exception {
+        File jar = jarOf(compileFixture(
+                "fixture/steps/BaseSteps.java", "package fixture.steps; public class BaseSteps { @org.jbehave.core.annotations.Given(\"a step\") public void aStep() {} }",
+                "fixture/steps/more/InheritingSteps.java", "package fixture.steps.more; public class InheritingSteps extends fixture.steps.BaseSteps {}",
+                "fixture/steps/more/MoreSteps.java", "package fixture.steps.more; public class MoreSteps { @org.jbehave.core.annotations.Then(\"a step\") public void aStep() {} }",
+                "fixture/steps/other/NotSteps.java", "package fixture.steps.other; public class NotSteps { public void notAStep() {} }",
+                "fixture/steps/other/OtherSteps.java", "package fixture.steps.other; public class OtherSteps { @org.jbehave.core.annotations.When(\"a step\") public void aStep() {} }"));
+        ClassLoader classLoader = new URLClassLoader(new URL[]{jar.toURI().toURL()}, getClass().getClassLoader());
+
+        List<Class<?>> sequentialClasses = ClassFinder.loadClasses().withClassLoader(classLoader)
+                                                      .thatMayContainJBehaveSteps().fromPackage("fixture.steps");
+        List<Class<?>> parallelClasses = ClassFinder.loadClasses().withClassLoader(classLoader)
+                                                    .thatMayContainJBehaveSteps().inParallel(4).fromPackage("fixture.steps");
+
+        assertThat(sequentialClasses.stream().map(Class::getName).collect(Collectors.toList()),
+                   containsInAnyOrder("fixture.steps.BaseSteps", "fixture.steps.more.InheritingSteps",
+                                      "fixture.steps.more.MoreSteps", "fixture.steps.other.OtherSteps"));
+        assertThat(parallelClasses, is(sequentialClasses));
+    }
+
+    @Test
+    public void shouldKeepClassesWhoseSupertypeRefersToClassesThatCannotBeLoaded() throws Exception {
+        File classes = compileFixture(
+                "fixture/support/Missing.java", "package fixture.support; public class Missing {}",
+                "fixture/support/BaseSteps.java", "package fixture.support; public class BaseSteps { public Missing missing() { return null; } }",
+                "fixture/steps/InheritingSteps.java", "package fixture.steps; public class InheritingSteps extends fixture.support.BaseSteps {}",
+                "fixture/steps/SomeSteps.java", "package fixture.steps; public class SomeSteps { @org.jbehave.core.annotations.Given(\"a step\") public void aStep() {} }");
+        assertThat(new File(classes, "fixture/support/Missing.class").delete(), is(true));
+        ClassLoader classLoader = new URLClassLoader(new URL[]{classes.toURI().toURL()}, getClass().getClassLoader());
+
+        List<Class<?>> stepClasses = ClassFinder.loadClasses().withClassLoader(classLoader)
+                                                .thatMayContainJBehaveSteps()
+                                                .fromPackage("fixture.steps");
+        List<String> classnames = stepClasses.stream().map(Class::getName).collect(Collectors.toList());
+
+        assertThat(classnames, hasItem("fixture.steps.InheritingSteps"));
+        assertThat(classnames, hasItem("fixture.steps.SomeSteps"));
+    }
+
+    @Test
+    public void shouldReadClassesFromAJarInADirectoryWithSpacesInItsName() throws Exception {
+        File jar = new File(temporaryFolder.newFolder("a folder with spaces"), "pages.jar");
+        try (JarOutputStream jarFile = new JarOutputStream(new FileOutputStream(jar));
+             InputStream pageClass = getClass().getResourceAsStream("/net/serenitybdd/jbehave/pages/StaticSitePage.class")) {
+            for (String directory : new String[]{"net/", "net/serenitybdd/", "net/serenitybdd/jbehave/", "net/serenitybdd/jbehave/pages/"}) {
+                jarFile.putNextEntry(new JarEntry(directory));
+            }
+            jarFile.putNextEntry(new JarEntry("net/serenitybdd/jbehave/pages/StaticSitePage.class"));
+            IOUtils.copy(pageClass, jarFile);
+        }
+        ClassFinder classFinder = ClassFinder.loadClasses().withClassLoader(new URLClassLoader(new URL[]{jar.toURI().toURL()}));
+
+        URI jarRoot = classFinder.classpathRootsFor("net.serenitybdd.jbehave.pages").stream()
+                .filter(root -> root.getScheme().equals("jar"))
+                .findFirst().get();
+        List<Class<?>> classes = classFinder.fromPackageIn(jarRoot, "net.serenitybdd.jbehave.pages");
+
+        assertThat(classes.size(), is(1));
+        assertThat(classes.get(0).getName(), is("net.serenitybdd.jbehave.pages.StaticSitePage"));
+    }
+
+    @Test
+    public void shouldOnlyRunTheScannersTheAnnotationsNeed() {
+        assertThat(ClassFinder.scansNeededFor(ImmutableList.of(Given.class)), is(EnumSet.of(ReflectionsCache.Scan.METHOD_ANNOTATIONS)));
+        assertThat(ClassFinder.scansNeededFor(ImmutableList.of(Ignore.class)),
+                   is(EnumSet.of(ReflectionsCache.Scan.TYPE_ANNOTATIONS, ReflectionsCache.Scan.METHOD_ANNOTATIONS)));
+    }
+
+    @Test
+    public void shouldReuseTheReflectionsStoreOfAPackageAlreadyScanned() {
+        ClassLoader classLoader = getClass().getClassLoader();
+        Set<ReflectionsCache.Scan> scans = EnumSet.of(ReflectionsCache.Scan.METHOD_ANNOTATIONS);
+
+        Reflections firstStore = ReflectionsCache.scannedStoreFor("net.serenitybdd.jbehave.steps", classLoader, scans);
+        Reflections secondStore = ReflectionsCache.scannedStoreFor("net.serenitybdd.jbehave.steps", classLoader, scans);
+
+        assertThat(secondStore, is(sameInstance(firstStore)));
+    }
+
+    @Test
+    public void shouldLoadAnnotatedClassesFromASerializedReflectionsStore() throws Exception {
+        File storeDirectory = temporaryFolder.newFolder("META-INF", "reflections");
+        new Reflections("net.serenitybdd.jbehave.steps", new MethodAnnotationsScanner())
+                .save(new File(storeDirectory, "steps-reflections.json").getPath(), new JsonSerializer());
+        ClassLoader classLoader = new URLClassLoader(new URL[]{temporaryFolder.getRoot().toURI().toURL()}, getClass().getClassLoader());
+
+        List<Class<?>> classes = new ClassFinder(classLoader).annotatedWith(Given.class)
+                                                             .usingSerializedReflectionsStores()
+                                                             .fromPackage("net.serenitybdd.jbehave");
+        List<String> classnames = classes.stream().map(Class::getName).collect(Collectors.toList());
+
+        assertThat(classnames, hasItem("net.serenitybdd.jbehave.steps.ParameterizedSteps"));
+        assertThat(classnames, everyItem(startsWith("net.serenitybdd.jbehave.steps.")));
+    }
+
+    /**
+     * Compile the given sources, listed as pairs of file name and content, against the test classpath.
+     */
+    private File compileFixture(String... namesAndSources) throws IOException {
+        Path sources = temporaryFolder.newFolder().toPath();
+        File classes = temporaryFolder.newFolder();
+        List<File> sourceFiles = new ArrayList<>();
+        for (int source = 0; source < namesAndSources.length; source += 2) {
+            Path sourceFile = sources.resolve(namesAndSources[source]);
+            Files.createDirectories(sourceFile.getParent());
+            Files.write(sourceFile, namesAndSources[source + 1].getBytes(StandardCharsets.UTF_8));
+            sourceFiles.add(sourceFile.toFile());
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            List<String> options = Arrays.asList("-d", classes.getPath(),
+                                                 "-classpath", System.getProperty("java.class.path"),
+                                                 "-proc:none");
+            assertThat(compiler.getTask(null, fileManager, null, options, null,
+                                        fileManager.getJavaFileObjectsFromFiles(sourceFiles)).call(), is(true));
+        }
+        return classes;
+    }
+
+    private File jarOf(File classes) throws IOException {
+        File jar = new File(temporaryFolder.newFolder(), "fixture.jar");
+        List<Path> entries;
+        try (Stream<Path> paths = Files.walk(classes.toPath())) {
+            entries = paths.filter(path -> !path.equals(classes.toPath())).sorted().collect(Collectors.toList());
+        }
+        try (JarOutputStream jarFile = new JarOutputStream(new FileOutputStream(jar))) {
+            for (Path entry : entries) {
+                String name = classes.toPath().relativize(entry).toString().replace(File.separatorChar, '/');
+                if (Files.isDirectory(entry)) {
+                    jarFile.putNextEntry(new JarEntry(name + "/"));
+                } else {
+                    jarFile.putNextEntry(new JarEntry(name));
+                    Files.copy(entry, jarFile);
+                }
+            }
+        }
+        return jar;
+    }
 }
@@ -0,0 +1,142 @@
+package net.serenitybdd.jbehave;
+
+import net.serenitybdd.jbehave.processor.StepClassManifestProcessor;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenRecordingStepClassesAtCompileTime {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void should_list_top_level_classes_that_declare_or_inherit_step_methods_and_can_be_instantiated() throws IOException {
+        Path sources = temporaryFolder.newFolder("sources").toPath();
+        File classes = temporaryFolder.newFolder("classes");
+        Path sourcePackage = Files.createDirectories(sources.resolve("sample/steps"));
+        write(sourcePackage.resolve("BaseSteps.java"),
+                "package sample.steps;",
+                "public class BaseSteps {",
+                "    @org.jbehave.core.annotations.Given(\"a base step\") public void baseStep() {}",
+                "}");
+        write(sourcePackage.resolve("InheritingSteps.java"),
+                "package sample.steps;",
+                "public class InheritingSteps extends BaseSteps {",
+                "    public static class NestedSteps {",
+                "        @org.jbehave.core.annotations.Then(\"a nested step\") public void nestedStep() {}",
+                "    }",
+                "}");
+        write(sourcePackage.resolve("AbstractSteps.java"),
+                "package sample.steps;",
+                "public abstract class AbstractSteps {",
+                "    @org.jbehave.core.annotations.When(\"an abstract step\") public void abstractStep() {}",
+                "}");
+        write(sourcePackage.resolve("ConfiguredSteps.java"),
+                "package sample.steps;",
+                "public class ConfiguredSteps {",
+                "    public ConfiguredSteps(String configuration) {}",
+                "    @org.jbehave.core.annotations.When(\"a configured step\") public void configuredStep() {}",
+                "}");
+        write(sourcePackage.resolve("NotSteps.java"),
+                "package sample.steps;",
+                "public class NotSteps {",
+                "    @Deprecated public void notAStep() {}",
+                "}");
+
+        compile(sources, classes, true);
+
+        List<String> manifest = Files.readAllLines(classes.toPath().resolve(StepClassManifest.LOCATION), StandardCharsets.UTF_8);
+        assertThat(manifest).containsExactly("sample.steps.BaseSteps", "sample.steps.InheritingSteps");
+    }
+
+    @Test
+    public void should_load_the_listed_step_classes_and_scan_the_classpath_entries_without_a_manifest() throws IOException {
+        File listed = compiledStepClasses("listed", "ListedSteps", "UnlistedSteps");
+        write(listed.toPath().resolve(StepClassManifest.LOCATION), "sample.steps.ListedSteps", "some.other.pkg.OtherSteps");
+        File unlisted = compiledStepClasses("unlisted", "ScannedSteps");
+
+        List<Class<?>> stepClasses = StepClassManifest.stepClassesIn("sample.steps", classFinderFor(listed, unlisted));
+
+        assertThat(stepClasses).extracting(Class::getName)
+                               .containsExactlyInAnyOrder("sample.steps.ListedSteps", "sample.steps.ScannedSteps");
+    }
+
+    @Test
+    public void should_scan_a_classpath_entry_whose_manifest_lists_classes_that_cannot_be_loaded() throws IOException {
+        File classes = compiledStepClasses("stale", "ListedSteps", "UnlistedSteps");
+        write(classes.toPath().resolve(StepClassManifest.LOCATION), "sample.steps.ListedSteps", "sample.steps.RemovedSteps");
+
+        List<Class<?>> stepClasses = StepClassManifest.stepClassesIn("sample.steps", classFinderFor(classes));
+
+        assertThat(stepClasses).extracting(Class::getName)
+                               .containsExactlyInAnyOrder("sample.steps.ListedSteps", "sample.steps.UnlistedSteps");
+    }
+
+    private File compiledStepClasses(String name, String... classNames) throws IOException {
+        Path sources = temporaryFolder.newFolder(name + "-sources").toPath();
+        File classes = temporaryFolder.newFolder(name);
+        Path sourcePackage = Files.createDirectories(sources.resolve("sample/steps"));
+        for (String className : classNames) {
+            write(sourcePackage.resolve(className + ".java"),
+                    "package sample.steps;",
+                    "public class " + className + " {",
+                    "    @org.jbehave.core.annotations.Given(\"a step\") public void aStep() {}",
+                    "}");
+        }
+        compile(sources, classes, false);
+        return classes;
+    }
+
+    private ClassFinder classFinderFor(File... classpathEntries) throws IOException {
+        URL[] urls = new URL[classpathEntries.length];
+        for (int entry = 0; entry < classpathEntries.length; entry++) {
+            urls[entry] = classpathEntries[entry].toURI().toURL();
+        }
+        return ClassFinder.loadClasses().withClassLoader(new URLClassLoader(urls, getClass().getClassLoader()));
+    }
+
+    private void compile(Path sources, File classes, boolean withTheManifestProcessor) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8);
+             Stream<Path> sourcePaths = Files.walk(sources)) {
+            Iterable<? extends JavaFileObject> sourceFiles = fileManager.getJavaFileObjectsFromFiles(
+                    sourcePaths.filter(path -> path.toString().endsWith(".java")).map(Path::toFile).collect(Collectors.toList()));
+            List<String> options = new ArrayList<>(Arrays.asList("-d", classes.getPath(),
+                                                                 "-classpath", System.getProperty("java.class.path")));
+            if (!withTheManifestProcessor) {
+                options.add("-proc:none");
+            }
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, sourceFiles);
+            if (withTheManifestProcessor) {
+                task.setProcessors(Collections.singletonList(new StepClassManifestProcessor()));
+            }
+            assertThat(task.call()).isTrue();
+        }
+    }
+
+    private void write(Path file, String... lines) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,148 @@
+package net.serenitybdd.jbehave;
+
+import net.thucydides.core.configuration.WebDriverConfiguration;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestStep;
+import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.jbehave.core.model.Description;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenReportingStoriesConcurrently {
+
+    private static final int STORIES = 200;
+    private static final int THREADS = 8;
+
+    private static final Scenario GIVEN_SCENARIO = scenario("A given scenario", "Given some state");
+    private static final Story GIVEN_STORY = story("stories/given/a_given_story.story", GIVEN_SCENARIO);
+    private static final GivenStories SCENARIO_GIVEN_STORIES = new GivenStories(GIVEN_STORY.getPath());
+
+    @Rule
+    public TemporaryFolder outputDirectory = new TemporaryFolder();
+
+    @Test
+    public void stories_reported_from_several_threads_should_have_the_same_outcomes_as_when_reported_from_one() throws Exception {
+        List<String> sequentialOutcomes = outcomesOf(reportStories(1));
+        List<String> concurrentOutcomes = outcomesOf(reportStories(THREADS));
+
+        assertThat(sequentialOutcomes).hasSize(STORIES * 3);
+        assertThat(concurrentOutcomes).isEqualTo(sequentialOutcomes);
+    }
+
+    private SerenityReporter reportStories(int threads) throws Exception {
+        MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+        environmentVariables.setProperty("thucydides.outputDirectory", outputDirectory.newFolder().getAbsolutePath());
+        SerenityReporter reporter = new SerenityReporter(new WebDriverConfiguration(environmentVariables));
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> reportedStories = new ArrayList<>();
+            for (int storyNumber = 0; storyNumber < STORIES; storyNumber++) {
+                int number = storyNumber;
+                reportedStories.add(executor.submit(() -> reportStory(reporter, number)));
+            }
+            for (Future<?> reportedStory : reportedStories) {
+                reportedStory.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return reporter;
+    }
+
+    /**
+     * Reports the events JBehave sends for a story with a passing scenario that starts from a given story,
+     * a failing scenario and a scenario with examples.
+     */
+    private void reportStory(SerenityReporter reporter, int storyNumber) {
+        Scenario givenScenario = new Scenario("A scenario with a given story", Meta.EMPTY, SCENARIO_GIVEN_STORIES,
+                ExamplesTable.EMPTY, Arrays.asList("When something happens", "Then something is done"));
+        Scenario failingScenario = scenario("A failing scenario", "Given a step", "When a step fails", "Then a step");
+        Scenario examplesScenario = new Scenario("A scenario with examples", Meta.EMPTY, GivenStories.EMPTY,
+                new ExamplesTable("|value|\n|1|\n|2|"), Collections.singletonList("Given a value of <value>"));
+        Story story = story("stories/story_" + storyNumber + ".story", givenScenario, failingScenario, examplesScenario);
+
+        reporter.beforeStory(story, false);
+
+        reporter.beforeScenario(givenScenario);
+        reporter.givenStories(SCENARIO_GIVEN_STORIES);
+        reporter.beforeStory(GIVEN_STORY, true);
+        reporter.beforeScenario(GIVEN_SCENARIO);
+        passingSteps(reporter, GIVEN_SCENARIO.getSteps());
+        reporter.afterScenario();
+        reporter.afterStory(true);
+        passingSteps(reporter, givenScenario.getSteps());
+        reporter.afterScenario();
+
+        reporter.beforeScenario(failingScenario);
+        passingSteps(reporter, Collections.singletonList("Given a step"));
+        reporter.beforeStep("When a step fails");
+        reporter.failed("When a step fails", new RuntimeException(new AssertionError("Story " + storyNumber + " failed")));
+        reporter.notPerformed("Then a step");
+        reporter.afterScenario();
+
+        reporter.beforeScenario(examplesScenario);
+        reporter.beforeExamples(examplesScenario.getSteps(), examplesScenario.getExamplesTable());
+        for (Map<String, String> row : examplesScenario.getExamplesTable().getRows()) {
+            reporter.example(row);
+            passingSteps(reporter, Collections.singletonList("Given a value of " + row.get("value")));
+        }
+        reporter.afterExamples();
+        reporter.afterScenario();
+
+        reporter.afterStory(false);
+        StepEventBus.getEventBus().clear();
+    }
+
+    private void passingSteps(SerenityReporter reporter, List<String> steps) {
+        for (String step : steps) {
+            reporter.beforeStep(step);
+            reporter.successful(step);
+        }
+    }
+
+    private List<String> outcomesOf(SerenityReporter reporter) {
+        return reporter.getAllTestOutcomes().stream()
+                .map(outcome -> outcome.getUserStory().getPath() + " - " + outcome.getTitle() + " - " + outcome.getResult()
+                        + " " + stepsOf(outcome.getTestSteps()))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, String> stepsOf(List<TestStep> steps) {
+        Map<String, String> results = new LinkedHashMap<>();
+        for (TestStep step : steps) {
+            results.put(step.getDescription(), step.getResult() + (step.hasChildren() ? " " + stepsOf(step.getChildren()) : ""));
+        }
+        return results;
+    }
+
+    private static Scenario scenario(String title, String... steps) {
+        return new Scenario(title, Meta.EMPTY, GivenStories.EMPTY, ExamplesTable.EMPTY, Arrays.asList(steps));
+    }
+
+    private static Story story(String path, Scenario... scenarios) {
+        return new Story(path, Description.EMPTY, Meta.EMPTY, Narrative.EMPTY, GivenStories.EMPTY, Arrays.asList(scenarios));
+    }
+}
@@ -0,0 +1,61 @@
+package net.serenitybdd.jbehave;
+
+import net.serenitybdd.jbehave.embedders.ReusablePerformableTree;
+import org.jbehave.core.annotations.BeforeStories;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.embedder.MetaFilter;
+import org.jbehave.core.embedder.NullEmbedderMonitor;
+import org.jbehave.core.embedder.PerformableTree;
+import org.jbehave.core.embedder.PerformableTree.RunContext;
+import org.jbehave.core.failures.BatchFailures;
+import org.jbehave.core.steps.CandidateSteps;
+import org.jbehave.core.steps.InstanceStepsFactory;
+import org.jbehave.core.steps.MarkUnmatchedStepsAsPending;
+import org.jbehave.core.steps.Step;
+import org.jbehave.core.steps.StepCollector.Stage;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenReusingThePerformableTree {
+
+    public static class BeforeStoriesSteps {
+        private int beforeStoriesRuns = 0;
+
+        @BeforeStories
+        public void beforeStories() {
+            beforeStoriesRuns++;
+        }
+    }
+
+    private final List<Stage> collectedStoriesSteps = new ArrayList<>();
+    private final Configuration configuration = new MostUsefulConfiguration()
+            .useStepCollector(new MarkUnmatchedStepsAsPending() {
+                @Override
+                public List<Step> collectBeforeOrAfterStoriesSteps(List<CandidateSteps> candidateSteps, Stage stage) {
+                    collectedStoriesSteps.add(stage);
+                    return super.collectBeforeOrAfterStoriesSteps(candidateSteps, stage);
+                }
+            });
+    private final BeforeStoriesSteps steps = new BeforeStoriesSteps();
+
+    @Test
+    public void the_before_and_after_stories_steps_should_only_be_added_once_when_no_stories_are_found() throws Exception {
+        PerformableTree performableTree = new ReusablePerformableTree();
+        RunContext context = performableTree.newRunContext(configuration,
+                new InstanceStepsFactory(configuration, steps).createCandidateSteps(),
+                new NullEmbedderMonitor(), new MetaFilter(), new BatchFailures());
+
+        performableTree.addStories(context, Collections.emptyList());
+        performableTree.addStories(context, Collections.emptyList());
+        performableTree.performBeforeOrAfterStories(context, Stage.BEFORE);
+
+        assertThat(collectedStoriesSteps).containsExactly(Stage.BEFORE, Stage.AFTER);
+        assertThat(steps.beforeStoriesRuns).isEqualTo(1);
+    }
+}
@@ -1,5 +1,6 @@
 package net.serenitybdd.jbehave;
 
+import net.serenitybdd.jbehave.runners.SerenityReportingRunner;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.model.TestResult;
@@ -7,7 +8,12 @@ import net.thucydides.core.model.TestStep;
 import net.thucydides.core.model.TestTag;
 import net.thucydides.core.util.EnvironmentVariables;
 import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static net.thucydides.core.model.TestResult.SUCCESS;
@@ -123,6 +129,71 @@ public class WhenRunningJBehaveStoriesWithSuccess extends AbstractJBehaveStory {
         assertThat(outcomes.get(0).getNestedStepCount(), is(7));
     }
 
+    @Test
+    public void stories_should_be_run_from_the_performable_tree_built_to_describe_them() {
+
+        // Given
+        environmentVariables.setProperty("jbehave.reuse.performable.tree", "true");
+        SerenityStories passingStoriesWithState = newStory("*PassingBehaviorWithState.story");
+
+        // When
+        run(passingStoriesWithState);
+
+        // Then
+        List<TestOutcome> outcomes = loadTestOutcomes();
+        assertThat(outcomes.size(), is(2));
+        assertThat(outcomes.get(0).getResult(), is(TestResult.SUCCESS));
+        assertThat(outcomes.get(1).getResult(), is(TestResult.SUCCESS));
+    }
+
+    @Test
+    public void stories_should_only_be_described_in_full_when_they_start() {
+
+        // Given
+        environmentVariables.setProperty("jbehave.lazy.descriptions", "true");
+        SerenityStories passingStoryWithState = newStory("aPassingBehaviorWithState.story");
+        SerenityReportingRunner runner = new SerenityReportingRunner(passingStoryWithState.getClass(), passingStoryWithState);
+        Description storyDescription = runner.getDescription().getChildren().get(1);
+        assertThat(storyDescription.getChildren().isEmpty(), is(true));
+
+        // When
+        runner.run(new RunNotifier());
+
+        // Then
+        assertThat(storyDescription.getChildren().isEmpty(), is(false));
+        List<TestOutcome> outcomes = loadTestOutcomes();
+        assertThat(outcomes.size(), is(1));
+        assertThat(outcomes.get(0).getResult(), is(TestResult.SUCCESS));
+    }
+
+    @Test
+    public void stories_without_any_scenario_to_run_should_not_be_described_when_descriptions_are_lazy() {
+
+        // Given
+        environmentVariables.setProperty("jbehave.lazy.descriptions", "true");
+        environmentVariables.setProperty("metafilter", "-manual");
+        SerenityStories storyWithOnlyAManualScenario = newStory("aBehaviorWithSkippedManualScenario.story");
+        SerenityReportingRunner runner = new SerenityReportingRunner(storyWithOnlyAManualScenario.getClass(), storyWithOnlyAManualScenario);
+        List<Description> descriptions = runner.getDescription().getChildren();
+
+        // When
+        RunNotifier notifier = new RunNotifier();
+        List<Failure> failures = new ArrayList<>();
+        notifier.addListener(new RunListener() {
+            @Override
+            public void testFailure(Failure failure) {
+                failures.add(failure);
+            }
+        });
+        runner.run(notifier);
+
+        // Then
+        assertThat(descriptions.size(), is(2));
+        assertThat(descriptions.get(0).getDisplayName().startsWith("BeforeStories"), is(true));
+        assertThat(descriptions.get(1).getDisplayName().startsWith("AfterStories"), is(true));
+        assertThat(failures.isEmpty(), is(true));
+    }
+
     @Test
     public void the_given_when_then_clauses_should_count_as_steps() {
 
@@ -0,0 +1,62 @@
+package net.serenitybdd.jbehave;
+
+import net.serenitybdd.jbehave.steps.inherited.InheritingSteps;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.steps.CandidateSteps;
+import org.jbehave.core.steps.PrintStreamStepMonitor;
+import org.jbehave.core.steps.StepMonitor;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenSharingCandidateSteps {
+
+    private static final String ROOT_PACKAGE = "net.serenitybdd.jbehave.steps.inherited";
+
+    private final ClassLoader classLoader = getClass().getClassLoader();
+
+    @Test
+    public void should_build_candidate_steps_once_per_configuration() {
+        Configuration configuration = new MostUsefulConfiguration();
+
+        List<CandidateSteps> firstSteps = new SerenityStepFactory(configuration, ROOT_PACKAGE, classLoader).createCandidateSteps();
+        List<CandidateSteps> secondSteps = new SerenityStepFactory(configuration, ROOT_PACKAGE, classLoader).createCandidateSteps();
+
+        assertThat(secondSteps).isSameAs(firstSteps);
+    }
+
+    @Test
+    public void should_not_share_candidate_steps_between_configurations() {
+        List<CandidateSteps> firstSteps = new SerenityStepFactory(new MostUsefulConfiguration(), ROOT_PACKAGE, classLoader).createCandidateSteps();
+        List<CandidateSteps> secondSteps = new SerenityStepFactory(new MostUsefulConfiguration(), ROOT_PACKAGE, classLoader).createCandidateSteps();
+
+        assertThat(secondSteps).isNotSameAs(firstSteps);
+        assertThat(secondSteps.get(0).configuration()).isNotSameAs(firstSteps.get(0).configuration());
+    }
+
+    @Test
+    public void should_find_the_step_types_once_for_every_configuration() {
+        List<Class<?>> stepTypes = CandidateStepsCache.stepTypesFor(ROOT_PACKAGE, classLoader,
+                () -> new SerenityStepFactory(new MostUsefulConfiguration(), ROOT_PACKAGE, classLoader).stepsTypes());
+
+        List<Class<?>> cachedStepTypes = CandidateStepsCache.stepTypesFor(ROOT_PACKAGE, classLoader, () -> {
+            throw new AssertionError("Step types should not be looked up again");
+        });
+
+        assertThat(cachedStepTypes).isSameAs(stepTypes).contains(InheritingSteps.class);
+    }
+
+    @Test
+    public void should_use_the_current_step_monitor_of_the_configuration() {
+        Configuration configuration = new MostUsefulConfiguration();
+        List<CandidateSteps> candidateSteps = new SerenityStepFactory(configuration, ROOT_PACKAGE, classLoader).createCandidateSteps();
+        StepMonitor stepMonitor = new PrintStreamStepMonitor();
+
+        configuration.useStepMonitor(stepMonitor);
+
+        assertThat(candidateSteps.get(0).configuration().stepMonitor()).isSameAs(stepMonitor);
+    }
+}
@@ -0,0 +1,161 @@
+package net.serenitybdd.jbehave;
+
+import net.thucydides.core.configuration.WebDriverConfiguration;
+import net.thucydides.core.model.Story;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.model.TestStep;
+import net.thucydides.core.reports.ReportService;
+import net.thucydides.core.reports.json.gson.GsonJSONConverter;
+import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.jbehave.core.model.Description;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.Scenario;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenSpoolingTestOutcomes {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<List<String>> reportedStories = new CopyOnWriteArrayList<>();
+
+    private SpooledTestOutcomes spooledTestOutcomes;
+    private File spoolDirectory;
+
+    @Before
+    public void createSpool() throws Exception {
+        ReportService reportService = new ReportService(temporaryFolder.newFolder(), Collections.emptyList()) {
+            @Override
+            public void generateReportsFor(List<TestOutcome> testOutcomes) {
+                reportedStories.add(testOutcomes.stream().map(TestOutcome::getTitle).collect(Collectors.toList()));
+            }
+        };
+        spoolDirectory = new File(temporaryFolder.getRoot(), "spool");
+        spooledTestOutcomes = new SpooledTestOutcomes(reportService,
+                new GsonJSONConverter(new MockEnvironmentVariables()), spoolDirectory);
+    }
+
+    @Test
+    public void spooled_outcomes_should_be_read_back_with_their_steps() {
+        spooledTestOutcomes.accept(Arrays.asList(
+                outcome("A story", "A passing scenario", TestResult.SUCCESS),
+                outcome("A story", "A failing scenario", TestResult.FAILURE)));
+
+        List<TestOutcome> testOutcomes = spooledTestOutcomes.getTestOutcomes();
+
+        assertThat(testOutcomes).extracting(TestOutcome::getTitle).containsExactly("A passing scenario", "A failing scenario");
+        assertThat(testOutcomes).extracting(TestOutcome::getResult).containsExactly(TestResult.SUCCESS, TestResult.FAILURE);
+        assertThat(testOutcomes.get(0).getTestSteps()).extracting(TestStep::getDescription).containsExactly("Given a step");
+        assertThat(testOutcomes.get(0).getUserStory().getName()).isEqualTo("A story");
+    }
+
+    @Test
+    public void spooled_stories_should_be_reported_one_at_a_time() {
+        spooledTestOutcomes.accept(Arrays.asList(
+                outcome("A story", "A first scenario", TestResult.SUCCESS),
+                outcome("A story", "A second scenario", TestResult.SUCCESS)));
+        spooledTestOutcomes.accept(Collections.singletonList(outcome("Another story", "A third scenario", TestResult.SUCCESS)));
+
+        spooledTestOutcomes.flush();
+
+        assertThat(reportedStories).containsExactly(
+                Arrays.asList("A first scenario", "A second scenario"),
+                Collections.singletonList("A third scenario"));
+    }
+
+    @Test
+    public void stories_should_only_be_reported_once() {
+        spooledTestOutcomes.accept(Collections.singletonList(outcome("A story", "A first scenario", TestResult.SUCCESS)));
+        spooledTestOutcomes.flush();
+        spooledTestOutcomes.accept(Collections.singletonList(outcome("Another story", "A second scenario", TestResult.SUCCESS)));
+
+        spooledTestOutcomes.flush();
+
+        assertThat(reportedStories).containsExactly(
+                Collections.singletonList("A first scenario"),
+                Collections.singletonList("A second scenario"));
+        assertThat(spooledTestOutcomes.getTestOutcomes()).isEmpty();
+    }
+
+    @Test
+    public void the_spool_file_should_be_deleted_once_the_stories_in_it_are_reported() {
+        spooledTestOutcomes.accept(Collections.singletonList(outcome("A story", "A scenario", TestResult.SUCCESS)));
+
+        assertThat(spoolDirectory.list()).hasSize(1);
+
+        spooledTestOutcomes.flush();
+
+        assertThat(spoolDirectory.list()).isEmpty();
+    }
+
+    @Test
+    public void the_reporter_should_spool_the_outcomes_in_the_output_directory_until_the_end_of_the_run() throws Exception {
+        File outputDirectory = temporaryFolder.newFolder("output");
+        MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+        environmentVariables.setProperty("thucydides.outputDirectory", outputDirectory.getAbsolutePath());
+        environmentVariables.setProperty(SerenityJBehaveSystemProperties.JBEHAVE_SPOOL_OUTCOMES.getName(), "true");
+        SerenityReporter reporter = new SerenityReporter(new WebDriverConfiguration(environmentVariables)) {
+            @Override
+            protected ReportService getReportService() {
+                return new ReportService(outputDirectory, Collections.emptyList()) {
+                    @Override
+                    public void generateReportsFor(List<TestOutcome> testOutcomes) {
+                        reportedStories.add(testOutcomes.stream().map(TestOutcome::getTitle).collect(Collectors.toList()));
+                    }
+                };
+            }
+        };
+        try {
+            reportStory(reporter, "stories/a_story.story", "A scenario");
+
+            assertThat(outputDirectory.list((directory, name) -> name.endsWith(".spool"))).hasSize(1);
+
+            reportStory(reporter, "AfterStories");
+
+            assertThat(reportedStories).containsExactly(Collections.singletonList("A scenario"));
+            assertThat(outputDirectory.list((directory, name) -> name.endsWith(".spool"))).isEmpty();
+        } finally {
+            StepEventBus.getEventBus().clear();
+        }
+    }
+
+    private void reportStory(SerenityReporter reporter, String path, String... scenarioTitles) {
+        List<Scenario> scenarios = Stream.of(scenarioTitles)
+                .map(title -> new Scenario(title, Meta.EMPTY, GivenStories.EMPTY, ExamplesTable.EMPTY,
+                        Collections.singletonList("Given a step")))
+                .collect(Collectors.toList());
+        reporter.beforeStory(new org.jbehave.core.model.Story(path, Description.EMPTY, Meta.EMPTY, Narrative.EMPTY,
+                GivenStories.EMPTY, scenarios), false);
+        for (Scenario scenario : scenarios) {
+            reporter.beforeScenario(scenario);
+            reporter.beforeStep("Given a step");
+            reporter.successful("Given a step");
+            reporter.afterScenario();
+        }
+        reporter.afterStory(false);
+    }
+
+    private TestOutcome outcome(String story, String title, TestResult result) {
+        TestOutcome testOutcome = TestOutcome.forTestInStory(title, Story.withId(story, story));
+        testOutcome.recordStep(TestStep.forStepCalled("Given a step").withResult(result));
+        return testOutcome;
+    }
+}
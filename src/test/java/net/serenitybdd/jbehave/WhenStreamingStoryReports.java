@@ -0,0 +1,122 @@
+package net.serenitybdd.jbehave;
+
+import net.thucydides.core.configuration.WebDriverConfiguration;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.ReportService;
+import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.jbehave.core.model.Description;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenStreamingStoryReports {
+
+    @Rule
+    public TemporaryFolder outputDirectory = new TemporaryFolder();
+
+    private final List<List<String>> writtenReports = new CopyOnWriteArrayList<>();
+    private final List<WeakReference<TestOutcome>> writtenOutcomes = new CopyOnWriteArrayList<>();
+
+    private SerenityReporter reporter;
+
+    @Before
+    public void createReporter() {
+        MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+        environmentVariables.setProperty("thucydides.outputDirectory", outputDirectory.getRoot().getAbsolutePath());
+        environmentVariables.setProperty(SerenityJBehaveSystemProperties.JBEHAVE_STREAM_REPORTS.getName(), "true");
+        reporter = new SerenityReporter(new WebDriverConfiguration(environmentVariables)) {
+            @Override
+            protected ReportService getReportService() {
+                return new ReportService(outputDirectory.getRoot(), Collections.emptyList()) {
+                    @Override
+                    public void generateReportsFor(List<TestOutcome> testOutcomes) {
+                        writtenReports.add(testOutcomes.stream().map(TestOutcome::getTitle).collect(Collectors.toList()));
+                        testOutcomes.forEach(outcome -> writtenOutcomes.add(new WeakReference<>(outcome)));
+                    }
+                };
+            }
+        };
+    }
+
+    @After
+    public void clearEventBus() {
+        StepEventBus.getEventBus().clear();
+    }
+
+    @Test
+    public void the_reports_of_each_story_should_be_written_when_the_story_finishes() {
+        reportStory("stories/a_story.story", "A first scenario");
+        reportStory("stories/another_story.story", "A second scenario");
+
+        reportStory("AfterStories");
+
+        assertThat(writtenReports).containsExactly(
+                Collections.singletonList("A first scenario"),
+                Collections.singletonList("A second scenario"));
+    }
+
+    @Test
+    public void the_outcomes_of_a_story_should_be_released_once_they_are_handed_to_the_report_writer() {
+        reportStory("stories/a_story.story", "A first scenario");
+
+        assertThat(reporter.getAllTestOutcomes()).isEmpty();
+    }
+
+    @Test
+    public void the_outcomes_of_a_large_suite_should_not_stay_in_memory_once_they_are_reported() throws Exception {
+        for (int story = 0; story < 1000; story++) {
+            reportStory("stories/story_" + story + ".story", IntStream.range(0, 10)
+                    .mapToObj(scenario -> "Scenario " + scenario)
+                    .toArray(String[]::new));
+        }
+        reportStory("AfterStories");
+        StepEventBus.getEventBus().dropAllListeners();
+
+        assertThat(writtenOutcomes).hasSize(10000);
+        for (int attempt = 0; attempt < 10 && retainedOutcomes() > 0; attempt++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        assertThat(retainedOutcomes()).isZero();
+    }
+
+    private long retainedOutcomes() {
+        return writtenOutcomes.stream().filter(outcome -> outcome.get() != null).count();
+    }
+
+    private void reportStory(String path, String... scenarioTitles) {
+        List<Scenario> scenarios = Stream.of(scenarioTitles)
+                .map(title -> new Scenario(title, Meta.EMPTY, GivenStories.EMPTY, ExamplesTable.EMPTY,
+                        Collections.singletonList("Given a step")))
+                .collect(Collectors.toList());
+        Story story = new Story(path, Description.EMPTY, Meta.EMPTY, Narrative.EMPTY, GivenStories.EMPTY, scenarios);
+
+        reporter.beforeStory(story, false);
+        for (Scenario scenario : scenarios) {
+            reporter.beforeScenario(scenario);
+            reporter.beforeStep("Given a step");
+            reporter.successful("Given a step");
+            reporter.afterScenario();
+        }
+        reporter.afterStory(false);
+    }
+}
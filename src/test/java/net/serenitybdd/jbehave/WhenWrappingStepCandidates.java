@@ -0,0 +1,45 @@
+package net.serenitybdd.jbehave;
+
+import net.serenitybdd.jbehave.reflection.Extract;
+import org.jbehave.core.annotations.Given;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.steps.InstanceStepsFactory;
+import org.jbehave.core.steps.StepCandidate;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenWrappingStepCandidates {
+
+    public static class SampleSteps {
+        @Given("I have $amount euros")
+        public void anAmount(String amount) {}
+    }
+
+    private final Configuration configuration = new MostUsefulConfiguration();
+    private final StepCandidate stepCandidate = new InstanceStepsFactory(configuration, new SampleSteps())
+            .createCandidateSteps().get(0).listCandidates().get(0);
+
+    @Test
+    public void should_keep_the_steps_type_factory_and_keywords_of_the_wrapped_candidate() {
+        SerenityStepCandidate serenityStepCandidate = new SerenityStepCandidate(stepCandidate);
+
+        assertThat(serenityStepCandidate.getStepsType()).isEqualTo(SampleSteps.class);
+        assertThat(Extract.field("stepsFactory").from(serenityStepCandidate)).isSameAs(Extract.field("stepsFactory").from(stepCandidate));
+        assertThat(Extract.field("keywords").from(serenityStepCandidate)).isSameAs(configuration.keywords());
+    }
+
+    @Test
+    public void should_read_fields_declared_by_a_superclass() {
+        SerenityStepCandidate serenityStepCandidate = new SerenityStepCandidate(stepCandidate);
+
+        assertThat(Extract.field("stepCandidate").from(serenityStepCandidate)).isSameAs(stepCandidate);
+        assertThat(Extract.field("patternAsString").from(serenityStepCandidate)).isEqualTo("I have $amount euros");
+    }
+
+    @Test
+    public void should_return_null_for_an_unknown_field() {
+        assertThat(Extract.field("unknownField").from(stepCandidate)).isNull();
+    }
+}
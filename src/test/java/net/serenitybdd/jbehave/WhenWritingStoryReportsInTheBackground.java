@@ -0,0 +1,146 @@
+package net.serenitybdd.jbehave;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.ReportGenerationFailedError;
+import net.thucydides.core.reports.ReportService;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class WhenWritingStoryReportsInTheBackground {
+
+    @Rule
+    public TemporaryFolder outputDirectory = new TemporaryFolder();
+
+    private final List<String> writtenReports = new CopyOnWriteArrayList<>();
+    private final CountDownLatch diskIsAvailable = new CountDownLatch(1);
+
+    @Test
+    public void the_reports_should_all_be_written_when_the_writer_is_flushed() {
+        diskIsAvailable.countDown();
+        BackgroundReportWriter writer = new BackgroundReportWriter(slowReportService(), 4, 16);
+
+        for (int story = 0; story < 20; story++) {
+            writer.accept(outcomes("Story " + story));
+        }
+        writer.flush();
+
+        assertThat(writtenReports).hasSize(20);
+    }
+
+    @Test
+    public void stories_should_wait_for_a_report_to_be_written_when_too_many_are_waiting() throws Exception {
+        BackgroundReportWriter writer = new BackgroundReportWriter(slowReportService(), 1, 1);
+        writer.accept(outcomes("Story 1"));
+        writer.accept(outcomes("Story 2"));
+
+        CompletableFuture<Void> thirdStory = CompletableFuture.runAsync(() -> writer.accept(outcomes("Story 3")));
+
+        assertThatThrownBy(() -> thirdStory.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+        diskIsAvailable.countDown();
+        thirdStory.get(5, TimeUnit.SECONDS);
+        writer.flush();
+        assertThat(writtenReports).containsExactly("Story 1", "Story 2", "Story 3");
+    }
+
+    @Test
+    public void a_report_that_cannot_be_written_should_fail_the_flush() {
+        BackgroundReportWriter writer = new BackgroundReportWriter(
+                new ReportService(outputDirectory.getRoot(), Collections.emptyList()) {
+                    @Override
+                    public void generateReportsFor(List<TestOutcome> testOutcomes) {
+                        throw new IllegalStateException("Disk full");
+                    }
+                }, 1, 1);
+
+        writer.accept(outcomes("Story 1"));
+
+        assertThatThrownBy(writer::flush)
+                .isInstanceOf(ReportGenerationFailedError.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void the_flush_should_wait_for_every_report_and_then_report_all_the_failures() {
+        BackgroundReportWriter writer = new BackgroundReportWriter(
+                new ReportService(outputDirectory.getRoot(), Collections.emptyList()) {
+                    @Override
+                    public void generateReportsFor(List<TestOutcome> testOutcomes) {
+                        String title = testOutcomes.get(0).getTitle();
+                        if (title.startsWith("Failing")) {
+                            throw new IllegalStateException(title + " could not be written");
+                        }
+                        writtenReports.add(title);
+                    }
+                }, 1, 4);
+
+        writer.accept(outcomes("Failing story 1"));
+        writer.accept(outcomes("Story 2"));
+        writer.accept(outcomes("Failing story 3"));
+        writer.accept(outcomes("Story 4"));
+
+        Throwable failure = catchThrowable(writer::flush);
+
+        assertThat(failure).isInstanceOf(ReportGenerationFailedError.class);
+        assertThat(failure.getCause()).hasMessage("Failing story 1 could not be written");
+        assertThat(failure.getSuppressed()).extracting(Throwable::getMessage)
+                                           .containsExactly("Failing story 3 could not be written");
+        assertThat(writtenReports).containsExactly("Story 2", "Story 4");
+    }
+
+    @Test
+    public void the_writer_threads_should_stop_once_the_writer_is_flushed_and_start_again_for_later_stories()
+            throws InterruptedException {
+        List<Thread> writerThreads = new CopyOnWriteArrayList<>();
+        BackgroundReportWriter writer = new BackgroundReportWriter(
+                new ReportService(outputDirectory.getRoot(), Collections.emptyList()) {
+                    @Override
+                    public void generateReportsFor(List<TestOutcome> testOutcomes) {
+                        writerThreads.add(Thread.currentThread());
+                        writtenReports.add(testOutcomes.get(0).getTitle());
+                    }
+                }, 1, 1);
+
+        writer.accept(outcomes("Story 1"));
+        writer.flush();
+        writerThreads.get(0).join(5000);
+
+        assertThat(writerThreads.get(0).isAlive()).isFalse();
+
+        writer.accept(outcomes("Story 2"));
+        writer.flush();
+
+        assertThat(writtenReports).containsExactly("Story 1", "Story 2");
+    }
+
+    private ReportService slowReportService() {
+        return new ReportService(outputDirectory.getRoot(), Collections.emptyList()) {
+            @Override
+            public void generateReportsFor(List<TestOutcome> testOutcomes) {
+                try {
+                    diskIsAvailable.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                writtenReports.add(testOutcomes.get(0).getTitle());
+            }
+        };
+    }
+
+    private List<TestOutcome> outcomes(String title) {
+        return Collections.singletonList(TestOutcome.forTestInStory(title,
+                net.thucydides.core.model.Story.withId(title, title)));
+    }
+}
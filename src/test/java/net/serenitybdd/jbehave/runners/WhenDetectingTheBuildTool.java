@@ -0,0 +1,45 @@
+package net.serenitybdd.jbehave.runners;
+
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenDetectingTheBuildTool {
+
+    private static final StackTraceElement[] NO_BUILD_TOOL_ON_THE_STACK = new StackTraceElement[]{
+            new StackTraceElement("org.junit.runner.JUnitCore", "run", "JUnitCore.java", 1)};
+
+    @Test
+    public void should_recognize_a_gradle_test_worker_from_its_system_properties() {
+        Properties systemProperties = new Properties();
+        systemProperties.setProperty("org.gradle.test.worker", "1");
+
+        assertThat(BuildTool.detectFrom(systemProperties, NO_BUILD_TOOL_ON_THE_STACK)).isEqualTo(BuildTool.GRADLE);
+    }
+
+    @Test
+    public void should_recognize_a_surefire_fork_from_its_system_properties() {
+        Properties systemProperties = new Properties();
+        systemProperties.setProperty("surefire.test.class.path", "target/test-classes");
+
+        assertThat(BuildTool.detectFrom(systemProperties, NO_BUILD_TOOL_ON_THE_STACK)).isEqualTo(BuildTool.MAVEN);
+    }
+
+    @Test
+    public void should_fall_back_on_the_stack_when_no_build_tool_system_properties_are_set() {
+        StackTraceElement[] stackTrace = new StackTraceElement[]{
+                new StackTraceElement("org.apache.maven.surefire.booter.ForkedBooter", "main", "ForkedBooter.java", 1)};
+
+        assertThat(BuildTool.detectFrom(new Properties(), stackTrace)).isEqualTo(BuildTool.MAVEN);
+        assertThat(BuildTool.detectFrom(new Properties(), NO_BUILD_TOOL_ON_THE_STACK)).isEqualTo(BuildTool.NONE);
+    }
+
+    @Test
+    public void should_use_the_configured_build_tool_when_there_is_one() {
+        assertThat(BuildTool.from("gradle")).isEqualTo(BuildTool.GRADLE);
+        assertThat(BuildTool.from(" None ")).isEqualTo(BuildTool.NONE);
+        assertThat(BuildTool.from(null)).isEqualTo(BuildTool.detected());
+    }
+}
@@ -0,0 +1,10 @@
+package net.serenitybdd.jbehave.steps.inherited;
+
+import org.jbehave.core.annotations.Given;
+
+public class BaseLibrarySteps {
+
+    @Given("a step defined in a base step library")
+    public void a_step_defined_in_a_base_step_library() {
+    }
+}
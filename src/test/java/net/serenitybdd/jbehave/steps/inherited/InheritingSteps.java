@@ -0,0 +1,4 @@
+package net.serenitybdd.jbehave.steps.inherited;
+
+public class InheritingSteps extends BaseLibrarySteps {
+}